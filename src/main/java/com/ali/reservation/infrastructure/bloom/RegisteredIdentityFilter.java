@@ -0,0 +1,60 @@
+package com.ali.reservation.infrastructure.bloom;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bloom filter over registered usernames and emails, filled at startup. Until it is loaded every
+ * registration is treated as possibly taken so the database check still runs.
+ */
+@Component
+@Slf4j
+public class RegisteredIdentityFilter {
+
+    private static final String USERNAME_PREFIX = "u:";
+    private static final String EMAIL_PREFIX = "e:";
+
+    private final RegisteredIdentityLoader loader;
+    private final BloomFilter filter;
+
+    private volatile boolean loaded;
+
+    RegisteredIdentityFilter(RegisteredIdentityLoader loader,
+                             @Value("${security.registration-filter.expected-users:1000000}") long expectedUsers,
+                             @Value("${security.registration-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.loader = loader;
+        this.filter = new BloomFilter(expectedUsers * 2, falsePositiveRate);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        AtomicLong users = new AtomicLong();
+        loader.load(identity -> {
+            add(identity.username(), identity.email());
+            users.incrementAndGet();
+        });
+        loaded = true;
+        log.info("Registered identity filter loaded with {} users", users);
+    }
+
+    /**
+     * @return {@code true} only when neither the username nor the email can have been registered
+     */
+    public boolean isDefinitelyNew(String username, String email) {
+        return loaded
+                && !filter.mightContain(USERNAME_PREFIX + username)
+                && !filter.mightContain(EMAIL_PREFIX + email);
+    }
+
+    public void add(String username, String email) {
+        filter.add(USERNAME_PREFIX + username);
+        if (email != null) {
+            filter.add(EMAIL_PREFIX + email);
+        }
+    }
+}
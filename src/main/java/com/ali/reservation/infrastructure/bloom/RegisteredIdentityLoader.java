@@ -0,0 +1,24 @@
+package com.ali.reservation.infrastructure.bloom;
+
+import com.ali.reservation.infrastructure.persistence.projection.UserIdentityView;
+import com.ali.reservation.infrastructure.persistence.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Component
+@RequiredArgsConstructor
+class RegisteredIdentityLoader {
+
+    private final UserRepository userRepository;
+
+    @Transactional(readOnly = true)
+    public void load(Consumer<UserIdentityView> sink) {
+        try (Stream<UserIdentityView> identities = userRepository.streamIdentities()) {
+            identities.forEach(sink);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.ali.reservation.infrastructure.cache;
+
+import com.ali.reservation.presentation.dto.response.ReservationResponse;
+
+import java.util.List;
+
+record SlotBucket(List<ReservationResponse> window, long total) {
+
+    boolean truncated() {
+        return window.size() < total;
+    }
+}
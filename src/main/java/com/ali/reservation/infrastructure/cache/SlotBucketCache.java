@@ -0,0 +1,93 @@
+package com.ali.reservation.infrastructure.cache;
+
+import com.ali.reservation.presentation.dto.response.ReservationResponse;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import static com.ali.reservation.infrastructure.cache.SlotCacheInvalidator.SLOTS_CACHE;
+
+/**
+ * Serves slot pages from a shared per-bucket window: {@code from} is floored to a fixed bucket, the first
+ * {@code window-size} available slots from the bucket start are cached once, and every request slices its own
+ * page out of that window. Requests that fall outside a truncated window go straight to the loader.
+ */
+@Component
+public class SlotBucketCache {
+
+    private final CacheManager cacheManager;
+    private final long bucketMinutes;
+    private final int windowSize;
+
+    @Getter
+    private final boolean enabled;
+
+    public SlotBucketCache(CacheManager cacheManager,
+                           @Value("${reservation.slots-cache.bucket-minutes:0}") long bucketMinutes,
+                           @Value("${reservation.slots-cache.bucket-window-size:500}") int windowSize) {
+        this.cacheManager = cacheManager;
+        this.bucketMinutes = bucketMinutes;
+        this.windowSize = windowSize;
+        this.enabled = bucketMinutes > 0;
+    }
+
+    public Page<ReservationResponse> getPage(LocalDateTime from, Pageable pageable,
+                                             BiFunction<LocalDateTime, Pageable, Page<ReservationResponse>> loader) {
+        Cache cache = cacheManager.getCache(SLOTS_CACHE);
+        if (cache == null || pageable.getSort().isSorted()) {
+            return loader.apply(from, pageable);
+        }
+
+        LocalDateTime bucketStart = bucketStart(from);
+        SlotBucket bucket = cache.get(new SlotBucketKey(bucketStart), () -> load(bucketStart, loader));
+
+        List<ReservationResponse> window = bucket.window();
+        int skip = firstIndexAtOrAfter(window, from);
+        long start = skip + pageable.getOffset();
+        long end = start + pageable.getPageSize();
+        if (bucket.truncated() && end > window.size()) {
+            return loader.apply(from, pageable);
+        }
+
+        List<ReservationResponse> content = window.subList((int) Math.min(start, window.size()),
+                (int) Math.min(end, window.size()));
+        return new PageImpl<>(content, pageable, bucket.total() - skip);
+    }
+
+    private LocalDateTime bucketStart(LocalDateTime from) {
+        LocalDateTime startOfDay = from.toLocalDate().atStartOfDay();
+        long minuteOfDay = ChronoUnit.MINUTES.between(startOfDay, from);
+        return startOfDay.plusMinutes(minuteOfDay / bucketMinutes * bucketMinutes);
+    }
+
+    private SlotBucket load(LocalDateTime bucketStart,
+                            BiFunction<LocalDateTime, Pageable, Page<ReservationResponse>> loader) {
+        Page<ReservationResponse> page = loader.apply(bucketStart, PageRequest.of(0, windowSize));
+        return new SlotBucket(List.copyOf(page.getContent()), page.getTotalElements());
+    }
+
+    private int firstIndexAtOrAfter(List<ReservationResponse> window, LocalDateTime from) {
+        int low = 0;
+        int high = window.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (window.get(mid).getStartTime().isBefore(from)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
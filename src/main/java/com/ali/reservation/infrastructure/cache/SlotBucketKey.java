@@ -0,0 +1,6 @@
+package com.ali.reservation.infrastructure.cache;
+
+import java.time.LocalDateTime;
+
+record SlotBucketKey(LocalDateTime bucketStart) {
+}
@@ -0,0 +1,89 @@
+package com.ali.reservation.infrastructure.cache;
+
+import com.ali.reservation.usecase.event.SlotAvailabilityChangedEvent;
+import com.ali.reservation.usecase.event.SlotsAddedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Drops only the cached slot pages whose {@code from} bound is at or before a changed slot,
+ * instead of wiping the whole "slots" cache on every reservation.
+ */
+@Component
+@Slf4j
+public class SlotCacheInvalidator {
+
+    public static final String SLOTS_CACHE = "slots";
+
+    private final CacheManager cacheManager;
+    private final Counter invalidations;
+    private final Counter evictedEntries;
+
+    public SlotCacheInvalidator(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.invalidations = Counter.builder("reservation.slot-cache.invalidations")
+                .description("Slot availability changes that triggered a cache invalidation")
+                .register(meterRegistry);
+        this.evictedEntries = Counter.builder("reservation.slot-cache.evicted")
+                .description("Cached slot pages dropped by range-aware invalidation")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotAvailabilityChanged(SlotAvailabilityChangedEvent event) {
+        evictCovering(event.startTimes());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotsAdded(SlotsAddedEvent event) {
+        evictCovering(event.startTimes());
+    }
+
+    private void evictCovering(Collection<LocalDateTime> changedStartTimes) {
+        Cache cache = cacheManager.getCache(SLOTS_CACHE);
+        if (cache == null || changedStartTimes.isEmpty()) {
+            return;
+        }
+        invalidations.increment();
+
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            cache.clear();
+            return;
+        }
+
+        LocalDateTime latestChange = Collections.max(changedStartTimes);
+        int evicted = 0;
+        for (Object key : nativeCache.asMap().keySet()) {
+            if (covers(key, latestChange) && nativeCache.asMap().remove(key) != null) {
+                evicted++;
+            }
+        }
+        evictedEntries.increment(evicted);
+        log.debug("Evicted {} slot pages covering {}", evicted, latestChange);
+    }
+
+    private boolean covers(Object key, LocalDateTime changedStartTime) {
+        LocalDateTime from = pageFrom(key);
+        return from == null || !from.isAfter(changedStartTime);
+    }
+
+    private LocalDateTime pageFrom(Object key) {
+        if (key instanceof SlotBucketKey bucketKey) {
+            return bucketKey.bucketStart();
+        }
+        if (key instanceof List<?> parts && !parts.isEmpty() && parts.get(0) instanceof LocalDateTime from) {
+            return from;
+        }
+        return null;
+    }
+}
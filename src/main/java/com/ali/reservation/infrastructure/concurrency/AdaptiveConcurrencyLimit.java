@@ -0,0 +1,76 @@
+package com.ali.reservation.infrastructure.concurrency;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD concurrency limit: grows by one per window of fast, saturated calls and shrinks by {@code backoffRatio}
+ * when a call is slower than the latency threshold or fails with an overload error. The calls in flight during one
+ * slowdown all see it, so the limit shrinks at most once per {@code backoffWindow}.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    @Getter
+    private final TrafficClass trafficClass;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final long backoffWindowNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private long lastBackoffNanos;
+    private boolean backedOff;
+
+    public AdaptiveConcurrencyLimit(TrafficClass trafficClass, int initialLimit, int minLimit, int maxLimit,
+                                    Duration latencyThreshold, double backoffRatio, Duration backoffWindow) {
+        this.trafficClass = trafficClass;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.backoffWindowNanos = backoffWindow.toNanos();
+        this.limit = Math.clamp(initialLimit, this.minLimit, this.maxLimit);
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos, boolean overloaded) {
+        release(latencyNanos, overloaded, System.nanoTime());
+    }
+
+    void release(long latencyNanos, boolean overloaded, long nowNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (overloaded || latencyNanos > latencyThresholdNanos) {
+                if (!backedOff || nowNanos - lastBackoffNanos >= backoffWindowNanos) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastBackoffNanos = nowNanos;
+                    backedOff = true;
+                }
+            } else if (inFlightAtCompletion * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
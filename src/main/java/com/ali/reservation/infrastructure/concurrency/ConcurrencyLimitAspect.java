@@ -0,0 +1,74 @@
+package com.ali.reservation.infrastructure.concurrency;
+
+import com.ali.reservation.presentation.exption.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs ahead of retry, caching and transaction advice so shed calls never borrow a connection.
+ * Only connection and query timeouts count as overload; a 503 for contention on one slot says nothing about capacity.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ConcurrencyLimitAspect {
+
+    private final Map<TrafficClass, AdaptiveConcurrencyLimit> limits = new EnumMap<>(TrafficClass.class);
+    private final Map<TrafficClass, Counter> rejections = new EnumMap<>(TrafficClass.class);
+    private final long retryAfterSeconds;
+
+    public ConcurrencyLimitAspect(List<AdaptiveConcurrencyLimit> limits, long retryAfterSeconds,
+                                  MeterRegistry meterRegistry) {
+        this.retryAfterSeconds = retryAfterSeconds;
+        for (AdaptiveConcurrencyLimit limit : limits) {
+            String trafficClass = limit.getTrafficClass().name().toLowerCase();
+            this.limits.put(limit.getTrafficClass(), limit);
+            this.rejections.put(limit.getTrafficClass(), Counter.builder("reservation.concurrency.rejected")
+                    .description("Calls shed because the adaptive concurrency limit was reached")
+                    .tag("class", trafficClass)
+                    .register(meterRegistry));
+            Gauge.builder("reservation.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                    .description("Current adaptive concurrency limit")
+                    .tag("class", trafficClass)
+                    .register(meterRegistry);
+            Gauge.builder("reservation.concurrency.in-flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                    .description("Calls currently admitted by the concurrency limiter")
+                    .tag("class", trafficClass)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Around("@annotation(limited)")
+    public Object limit(ProceedingJoinPoint joinPoint, ConcurrencyLimited limited) throws Throwable {
+        AdaptiveConcurrencyLimit limit = limits.get(limited.value());
+        if (limit == null) {
+            return joinPoint.proceed();
+        }
+        if (!limit.tryAcquire()) {
+            rejections.get(limited.value()).increment();
+            throw new ServiceUnavailableException("Server is busy, please retry", retryAfterSeconds);
+        }
+
+        long start = System.nanoTime();
+        boolean overloaded = false;
+        try {
+            return joinPoint.proceed();
+        } catch (CannotCreateTransactionException | QueryTimeoutException e) {
+            overloaded = true;
+            throw e;
+        } finally {
+            limit.release(System.nanoTime() - start, overloaded);
+        }
+    }
+}
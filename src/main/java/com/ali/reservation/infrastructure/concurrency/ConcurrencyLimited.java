@@ -0,0 +1,16 @@
+package com.ali.reservation.infrastructure.concurrency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Admits the call only while the adaptive concurrency limit of its traffic class has room; excess calls fail fast
+ * with 503 instead of queueing on the connection pool.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLimited {
+    TrafficClass value();
+}
@@ -0,0 +1,5 @@
+package com.ali.reservation.infrastructure.concurrency;
+
+public enum TrafficClass {
+    READ, WRITE
+}
@@ -0,0 +1,46 @@
+package com.ali.reservation.infrastructure.config;
+
+import com.ali.reservation.infrastructure.concurrency.AdaptiveConcurrencyLimit;
+import com.ali.reservation.infrastructure.concurrency.ConcurrencyLimitAspect;
+import com.ali.reservation.infrastructure.concurrency.TrafficClass;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "reservation.concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+
+    @Value("${reservation.concurrency-limit.backoff-ratio:0.9}")
+    private double backoffRatio;
+
+    @Value("${reservation.concurrency-limit.backoff-window:PT1S}")
+    private Duration backoffWindow;
+
+    @Bean
+    public ConcurrencyLimitAspect concurrencyLimitAspect(
+            MeterRegistry meterRegistry,
+            @Value("${reservation.concurrency-limit.retry-after-seconds:1}") long retryAfterSeconds,
+            @Value("${reservation.concurrency-limit.read.initial:50}") int readInitial,
+            @Value("${reservation.concurrency-limit.read.min:5}") int readMin,
+            @Value("${reservation.concurrency-limit.read.max:200}") int readMax,
+            @Value("${reservation.concurrency-limit.read.latency-threshold:PT0.25S}") Duration readLatency,
+            @Value("${reservation.concurrency-limit.write.initial:20}") int writeInitial,
+            @Value("${reservation.concurrency-limit.write.min:2}") int writeMin,
+            @Value("${reservation.concurrency-limit.write.max:100}") int writeMax,
+            @Value("${reservation.concurrency-limit.write.latency-threshold:PT0.5S}") Duration writeLatency) {
+        List<AdaptiveConcurrencyLimit> limits = List.of(
+                limit(TrafficClass.READ, readInitial, readMin, readMax, readLatency),
+                limit(TrafficClass.WRITE, writeInitial, writeMin, writeMax, writeLatency));
+        return new ConcurrencyLimitAspect(limits, retryAfterSeconds, meterRegistry);
+    }
+
+    private AdaptiveConcurrencyLimit limit(TrafficClass trafficClass, int initial, int min, int max, Duration latency) {
+        return new AdaptiveConcurrencyLimit(trafficClass, initial, min, max, latency, backoffRatio, backoffWindow);
+    }
+}
@@ -0,0 +1,51 @@
+package com.ali.reservation.infrastructure.config;
+
+import com.ali.reservation.infrastructure.ratelimit.RateLimitFilter;
+import com.ali.reservation.infrastructure.ratelimit.RateLimitRule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+@Configuration
+@ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true")
+public class RateLimitConfig {
+
+    @Value("${rate-limit.max-clients:100000}")
+    private long maxClients;
+
+    @Value("${rate-limit.idle-expiry:PT10M}")
+    private Duration idleExpiry;
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            MeterRegistry meterRegistry,
+            @Value("${rate-limit.trusted-proxies:0}") int trustedProxies,
+            @Value("${rate-limit.auth.capacity:10}") int authCapacity,
+            @Value("${rate-limit.auth.refill-per-second:1}") double authRefill,
+            @Value("${rate-limit.reservation-write.capacity:20}") int writeCapacity,
+            @Value("${rate-limit.reservation-write.refill-per-second:5}") double writeRefill,
+            @Value("${rate-limit.reservation-read.capacity:100}") int readCapacity,
+            @Value("${rate-limit.reservation-read.refill-per-second:50}") double readRefill) {
+        List<RateLimitRule> rules = List.of(
+                rule("auth", Set.of("POST"), "/api/v1/auth", authCapacity, authRefill),
+                rule("reservation-write", Set.of("POST", "DELETE"), "/api/v1/reservations", writeCapacity, writeRefill),
+                rule("reservation-read", Set.of("GET"), "/api/v1/reservations", readCapacity, readRefill));
+
+        var registration = new FilterRegistrationBean<>(new RateLimitFilter(rules, trustedProxies, meterRegistry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    private RateLimitRule rule(String name, Set<String> methods, String pathPrefix, int capacity, double refillPerSecond) {
+        return new RateLimitRule(name, methods, pathPrefix, capacity, refillPerSecond, maxClients, idleExpiry);
+    }
+}
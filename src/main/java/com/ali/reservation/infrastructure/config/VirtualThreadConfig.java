@@ -0,0 +1,37 @@
+package com.ali.reservation.infrastructure.config;
+
+import com.ali.reservation.infrastructure.persistence.datasource.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Virtual threads themselves are switched on by {@code spring.threads.virtual.enabled} (Tomcat, task executor and
+ * scheduler). Since request threads stop being a natural bound on database work, the pool is fronted by a semaphore
+ * with as many permits as it has connections.
+ */
+@Configuration
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "reservation.virtual-threads.limit-db-concurrency", havingValue = "true")
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                log.info("Limiting concurrent database work to {} permits", hikari.getMaximumPoolSize());
+                return new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(),
+                        Duration.ofMillis(hikari.getConnectionTimeout()));
+            }
+        };
+    }
+}
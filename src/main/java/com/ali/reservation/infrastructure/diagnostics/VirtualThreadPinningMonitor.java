@@ -0,0 +1,69 @@
+package com.ali.reservation.infrastructure.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Listens to the JFR {@code jdk.VirtualThreadPinned} event in-process and reports every virtual thread that stayed
+ * pinned to its carrier longer than the threshold, e.g. while blocking inside a synchronized block of the JDBC driver,
+ * the connection pool or Hibernate.
+ */
+@Component
+@ConditionalOnProperty(name = "reservation.virtual-threads.pinning-monitor.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final RecordingStream recording = new RecordingStream();
+    private final Timer pinned;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${reservation.virtual-threads.pinning-monitor.threshold:PT0.02S}") Duration threshold) {
+        this.pinned = Timer.builder("reservation.virtual-threads.pinned")
+                .description("Virtual threads pinned to their carrier thread longer than the reporting threshold")
+                .register(meterRegistry);
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+    }
+
+    @PostConstruct
+    public void start() {
+        recording.startAsync();
+        log.info("Virtual thread pinning monitor started");
+    }
+
+    @PreDestroy
+    public void stop() {
+        recording.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.record(event.getDuration());
+        log.warn("Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), pinnedAt(event));
+    }
+
+    private static String pinnedAt(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown frame";
+        }
+        return event.getStackTrace().getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .filter(frame -> !frame.getMethod().getType().getName().startsWith("java."))
+                .findFirst()
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .orElse("JDK frame");
+    }
+}
@@ -0,0 +1,65 @@
+package com.ali.reservation.infrastructure.importer;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+
+/**
+ * Streams the lines of a slot import file: gzip-compressed CSV, a ZIP of CSV entries, or plain CSV.
+ * The format is detected from the leading bytes, and nothing beyond the current line is kept in memory.
+ */
+public final class SlotArchiveReader {
+
+    private static final int GZIP_MAGIC = 0x1f8b;
+    private static final int ZIP_MAGIC = 0x504b;
+
+    private SlotArchiveReader() {
+    }
+
+    public static void readLines(Path file, Consumer<String> lineSink) throws IOException {
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(file))) {
+            int magic = peekMagic(input);
+            if (magic == GZIP_MAGIC) {
+                readCsv(new GzipCompressorInputStream(input, true), lineSink);
+            } else if (magic == ZIP_MAGIC) {
+                readZip(new ZipArchiveInputStream(input), lineSink);
+            } else {
+                readCsv(input, lineSink);
+            }
+        }
+    }
+
+    private static void readZip(ZipArchiveInputStream zip, Consumer<String> lineSink) throws IOException {
+        ZipArchiveEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            if (!entry.isDirectory() && entry.getName().toLowerCase().endsWith(".csv")) {
+                readCsv(zip, lineSink);
+            }
+        }
+    }
+
+    private static void readCsv(InputStream input, Consumer<String> lineSink) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineSink.accept(line);
+        }
+    }
+
+    private static int peekMagic(InputStream input) throws IOException {
+        input.mark(2);
+        int magic = input.read() << 8 | input.read();
+        input.reset();
+        return magic;
+    }
+}
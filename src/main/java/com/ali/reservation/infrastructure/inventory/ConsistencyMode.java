@@ -0,0 +1,6 @@
+package com.ali.reservation.infrastructure.inventory;
+
+public enum ConsistencyMode {
+    WRITE_THROUGH,
+    WRITE_BEHIND
+}
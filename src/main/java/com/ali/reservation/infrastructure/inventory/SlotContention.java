@@ -0,0 +1,10 @@
+package com.ali.reservation.infrastructure.inventory;
+
+import java.time.LocalDateTime;
+
+/**
+ * Contention seen for one slot: reserves that had to wait for another in-flight reserve,
+ * and reserves rejected in memory because the slot was already claimed.
+ */
+public record SlotContention(LocalDateTime slotStartTime, long waited, long rejected) {
+}
@@ -0,0 +1,165 @@
+package com.ali.reservation.infrastructure.inventory;
+
+import com.ali.reservation.infrastructure.persistence.projection.SlotStateView;
+import com.ali.reservation.infrastructure.persistence.repository.AvailableSlotRepository;
+import com.ali.reservation.presentation.exption.ApplicationException;
+import com.ali.reservation.usecase.event.SlotsAddedEvent;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.ali.reservation.presentation.exption.ErrorType.CONFLICT;
+
+/**
+ * In-memory view of slot availability keyed by start time.
+ * Each entry packs the slot id and its reserved bit into one {@link AtomicLong} ({@code id << 1 | reserved}),
+ * so a reservation claim is a single compare-and-set and losing contenders never reach the database.
+ * <p>
+ * The reserved bit is local to this JVM and a cancellation committed by another instance never clears it. Unless this
+ * node still has the write in flight, a set bit is confirmed with a read-only query before the claim is rejected;
+ * a stale bit is cleared and the claim retried. Past start times are pruned periodically.
+ */
+@Component
+@Slf4j
+public class SlotInventory {
+
+    private static final long RESERVED_BIT = 1L;
+
+    private final ConcurrentHashMap<LocalDateTime, AtomicLong> slots = new ConcurrentHashMap<>();
+    private final Set<LocalDateTime> writesInFlight = ConcurrentHashMap.newKeySet();
+    private final AvailableSlotRepository repository;
+
+    @Getter
+    private final boolean enabled;
+
+    @Getter
+    private final ConsistencyMode consistencyMode;
+
+    public SlotInventory(AvailableSlotRepository repository,
+                         @Value("${reservation.inventory.enabled:false}") boolean enabled,
+                         @Value("${reservation.inventory.consistency-mode:WRITE_THROUGH}") ConsistencyMode consistencyMode) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.consistencyMode = consistencyMode;
+    }
+
+    /**
+     * Claims the slot; the caller must end the claim with {@link #settle} once the database write is done,
+     * or with {@link #release} when it failed.
+     *
+     * @return the claimed slot id, or empty when the start time is not tracked and the caller must go to the database
+     */
+    public OptionalLong claim(LocalDateTime startTime) {
+        AtomicLong state = slots.get(startTime);
+        if (state == null) {
+            return OptionalLong.empty();
+        }
+
+        long current = state.get();
+        if ((current & RESERVED_BIT) != 0 && isStale(startTime)) {
+            state.compareAndSet(current, current & ~RESERVED_BIT);
+            current = state.get();
+        }
+        if ((current & RESERVED_BIT) != 0 || !state.compareAndSet(current, current | RESERVED_BIT)) {
+            throw new ApplicationException(CONFLICT, "Slot is already reserved");
+        }
+        writesInFlight.add(startTime);
+        return OptionalLong.of(current >>> 1);
+    }
+
+    /**
+     * Ends a claim whose database write has completed, successful or not, without touching the reserved bit.
+     */
+    public void settle(LocalDateTime startTime) {
+        writesInFlight.remove(startTime);
+    }
+
+    public void release(LocalDateTime startTime) {
+        writesInFlight.remove(startTime);
+        AtomicLong state = slots.get(startTime);
+        if (state != null) {
+            state.updateAndGet(current -> current & ~RESERVED_BIT);
+        }
+    }
+
+    /**
+     * @return the number of slots dropped because they started before {@code cutoff}
+     */
+    public int pruneBefore(LocalDateTime cutoff) {
+        int before = slots.size();
+        slots.keySet().removeIf(startTime -> startTime.isBefore(cutoff) && !writesInFlight.contains(startTime));
+        return before - slots.size();
+    }
+
+    private boolean isStale(LocalDateTime startTime) {
+        return !writesInFlight.contains(startTime) && !repository.isReservedAt(startTime);
+    }
+
+    public void releaseAfterCommit(LocalDateTime startTime) {
+        afterCommit(() -> release(startTime));
+    }
+
+    public void reserveAfterCommit(Collection<LocalDateTime> startTimes) {
+        afterCommit(() -> startTimes.forEach(this::reserve));
+    }
+
+    private void reserve(LocalDateTime startTime) {
+        AtomicLong state = slots.get(startTime);
+        if (state != null) {
+            state.updateAndGet(current -> current | RESERVED_BIT);
+        }
+    }
+
+    public void markReserved(Long slotId, LocalDateTime startTime) {
+        if (enabled) {
+            slots.put(startTime, new AtomicLong(pack(slotId, true)));
+        }
+    }
+
+    public void reconcile(Collection<SlotStateView> states) {
+        states.forEach(state -> slots.put(state.startTime(), new AtomicLong(pack(state.id(), state.reserved()))));
+        log.info("Slot inventory reconciled with {} slots", states.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotsAdded(SlotsAddedEvent event) {
+        if (enabled) {
+            event.slots().forEach(slot -> slots.putIfAbsent(slot.startTime(), new AtomicLong(pack(slot.id(), false))));
+        }
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static long pack(Long slotId, boolean reserved) {
+        return slotId << 1 | (reserved ? RESERVED_BIT : 0);
+    }
+}
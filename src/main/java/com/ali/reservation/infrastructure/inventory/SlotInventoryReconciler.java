@@ -0,0 +1,43 @@
+package com.ali.reservation.infrastructure.inventory;
+
+import com.ali.reservation.infrastructure.persistence.repository.AvailableSlotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SlotInventoryReconciler {
+
+    private final SlotInventory slotInventory;
+    private final AvailableSlotRepository repository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (slotInventory.isEnabled()) {
+            log.info("Reconciling slot inventory ({}) against the database", slotInventory.getConsistencyMode());
+            reconcile();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.inventory.prune-interval:PT10M}",
+            initialDelayString = "${reservation.inventory.prune-interval:PT10M}")
+    public void prunePastSlots() {
+        if (slotInventory.isEnabled()) {
+            int pruned = slotInventory.pruneBefore(LocalDateTime.now());
+            log.debug("Pruned {} past slots from the inventory", pruned);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        slotInventory.reconcile(repository.findSlotStates(LocalDateTime.now()));
+    }
+}
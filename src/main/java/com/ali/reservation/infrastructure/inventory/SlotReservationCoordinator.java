@@ -0,0 +1,157 @@
+package com.ali.reservation.infrastructure.inventory;
+
+import com.ali.reservation.infrastructure.persistence.repository.AvailableSlotRepository;
+import com.ali.reservation.presentation.exption.ApplicationException;
+import com.ali.reservation.presentation.exption.ServiceUnavailableException;
+import com.ali.reservation.usecase.event.SlotAvailabilityChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static com.ali.reservation.presentation.exption.ErrorType.CONFLICT;
+
+/**
+ * Lets only one reserve per slot start time reach the database at a time, using a fixed set of lock stripes.
+ * Once a slot is known to be claimed, later contenders, including those already queued on the stripe,
+ * get {@code CONFLICT} after a read-only check instead of another reserve attempt.
+ * <p>
+ * The claimed set is local to this JVM and a cancellation committed by another instance never reaches it, so a
+ * marker is only a hint: it expires after a short {@code claimed-ttl} and is confirmed against the database before
+ * a contender is rejected. Stale markers are dropped and the contender proceeds.
+ */
+@Component
+public class SlotReservationCoordinator {
+
+    private static final String SLOT_TAKEN = "Slot is already reserved";
+
+    @Getter
+    private final boolean enabled;
+    private final ReentrantLock[] stripes;
+    private final long waitTimeoutMillis;
+    private final long retryAfterSeconds;
+    private final AvailableSlotRepository repository;
+    private final Cache<LocalDateTime, Boolean> claimed;
+    private final Cache<LocalDateTime, Counts> contention;
+    private final Counter waited;
+    private final Counter rejected;
+
+    public SlotReservationCoordinator(AvailableSlotRepository repository, MeterRegistry meterRegistry,
+                                      @Value("${reservation.coordinator.enabled:false}") boolean enabled,
+                                      @Value("${reservation.coordinator.stripes:256}") int stripes,
+                                      @Value("${reservation.coordinator.wait-timeout:PT2S}") Duration waitTimeout,
+                                      @Value("${reservation.coordinator.claimed-ttl:PT10S}") Duration claimedTtl,
+                                      @Value("${reservation.coordinator.max-tracked-slots:100000}") long maxTrackedSlots,
+                                      @Value("${reservation.coordinator.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.stripes = new ReentrantLock[Integer.highestOneBit(Math.max(1, stripes - 1)) << 1];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.waitTimeoutMillis = waitTimeout.toMillis();
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.claimed = Caffeine.newBuilder().maximumSize(maxTrackedSlots).expireAfterWrite(claimedTtl).build();
+        this.contention = Caffeine.newBuilder().maximumSize(maxTrackedSlots).expireAfterAccess(claimedTtl).build();
+        this.waited = Counter.builder("reservation.coordinator.waited")
+                .description("Reserves that queued behind another in-flight reserve for the same slot")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("reservation.coordinator.rejected")
+                .description("Reserves rejected in memory because the slot was already claimed")
+                .register(meterRegistry);
+    }
+
+    public <T> T reserve(LocalDateTime startTime, Supplier<T> reservation) {
+        rejectIfClaimed(startTime);
+
+        ReentrantLock lock = stripes[(startTime.hashCode() * 0x9E3779B9 >>> 16) & (stripes.length - 1)];
+        if (lock.isLocked()) {
+            waited.increment();
+            countsOf(startTime).waited.increment();
+        }
+        acquire(lock);
+        try {
+            rejectIfClaimed(startTime);
+            T result = reservation.get();
+            claimed.put(startTime, Boolean.TRUE);
+            return result;
+        } catch (ApplicationException e) {
+            if (e.getErrorType() == CONFLICT) {
+                claimed.put(startTime, Boolean.TRUE);
+            }
+            throw e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the most contended slots first
+     */
+    public List<SlotContention> topContended(int limit) {
+        return contention.asMap().entrySet().stream()
+                .map(entry -> new SlotContention(entry.getKey(), entry.getValue().waited.sum(),
+                        entry.getValue().rejected.sum()))
+                .sorted(Comparator.comparingLong((SlotContention slot) -> slot.waited() + slot.rejected()).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotAvailabilityChanged(SlotAvailabilityChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (event.reserved()) {
+            event.startTimes().forEach(startTime -> claimed.put(startTime, Boolean.TRUE));
+        } else {
+            claimed.invalidateAll(event.startTimes());
+        }
+    }
+
+    private void rejectIfClaimed(LocalDateTime startTime) {
+        if (claimed.getIfPresent(startTime) == null) {
+            return;
+        }
+        if (!repository.isReservedAt(startTime)) {
+            claimed.invalidate(startTime);
+            return;
+        }
+        rejected.increment();
+        countsOf(startTime).rejected.increment();
+        throw new ApplicationException(CONFLICT, SLOT_TAKEN);
+    }
+
+    private void acquire(ReentrantLock lock) {
+        try {
+            if (!lock.tryLock(waitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new ServiceUnavailableException("Slot is busy, please retry", retryAfterSeconds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for the slot", retryAfterSeconds);
+        }
+    }
+
+    private Counts countsOf(LocalDateTime startTime) {
+        return contention.get(startTime, key -> new Counts());
+    }
+
+    private static final class Counts {
+        private final LongAdder waited = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+    }
+}
@@ -0,0 +1,104 @@
+package com.ali.reservation.infrastructure.persistence.bulk;
+
+import com.ali.reservation.infrastructure.persistence.projection.SlotStateView;
+import com.ali.reservation.infrastructure.persistence.projection.SlotWindowView;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Streams slot rows into a temporary staging table with the COPY protocol, then moves the ones whose start time
+ * is not taken yet into available_slots with a single set-based insert that returns the new rows.
+ * Runs inside the caller's transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotCopyLoader {
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMP TABLE IF NOT EXISTS slot_staging (start_time TIMESTAMP NOT NULL, end_time TIMESTAMP NOT NULL)
+            ON COMMIT DROP
+            """;
+    private static final String COPY_STAGING = "COPY slot_staging (start_time, end_time) FROM STDIN";
+    private static final String INSERT_NEW_SLOTS = """
+            INSERT INTO available_slots (id, start_time, end_time, is_reserved, version)
+            SELECT nextval('entity_id_seq'), s.start_time, s.end_time, false, 0
+            FROM (SELECT DISTINCT ON (start_time) start_time, end_time FROM slot_staging) s
+            WHERE NOT EXISTS (SELECT 1 FROM available_slots a WHERE a.start_time = s.start_time)
+            RETURNING id, start_time
+            """;
+
+    private final DataSource dataSource;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public SlotLoadResult load(Stream<SlotWindowView> slots) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_STAGING);
+            statement.execute("TRUNCATE slot_staging");
+            long received = copy(connection, slots);
+            return new SlotLoadResult(received, insertNewSlots(statement));
+        } catch (SQLException e) {
+            throw new IllegalStateException("Bulk slot load failed", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public SlotLoadResult loadBatch(List<SlotWindowView> slots) {
+        return load(slots.stream());
+    }
+
+    private static List<SlotStateView> insertNewSlots(Statement statement) throws SQLException {
+        List<SlotStateView> added = new ArrayList<>();
+        try (ResultSet rows = statement.executeQuery(INSERT_NEW_SLOTS)) {
+            while (rows.next()) {
+                added.add(new SlotStateView(rows.getLong(1), rows.getObject(2, LocalDateTime.class), false));
+            }
+        }
+        return added;
+    }
+
+    private long copy(Connection connection, Stream<SlotWindowView> slots) throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_STAGING);
+        try {
+            StringBuilder buffer = new StringBuilder(BUFFER_BYTES);
+            for (SlotWindowView slot : (Iterable<SlotWindowView>) slots::iterator) {
+                buffer.append(slot.startTime()).append('\t').append(slot.endTime()).append('\n');
+                if (buffer.length() >= BUFFER_BYTES) {
+                    write(copyIn, buffer);
+                }
+            }
+            write(copyIn, buffer);
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void write(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+}
@@ -0,0 +1,12 @@
+package com.ali.reservation.infrastructure.persistence.bulk;
+
+import com.ali.reservation.infrastructure.persistence.projection.SlotStateView;
+
+import java.util.List;
+
+public record SlotLoadResult(long received, List<SlotStateView> added) {
+
+    public long inserted() {
+        return added.size();
+    }
+}
@@ -0,0 +1,137 @@
+package com.ali.reservation.infrastructure.persistence.compaction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves cancelled (soft-deleted) reservations older than the retention window into reservations_archive.
+ * Each batch is one {@code DELETE ... RETURNING} statement that skips rows locked by live traffic, and the job
+ * pauses between batches so it never holds the table for long. Runs are handed to a dedicated thread so those pauses
+ * never occupy the shared scheduler thread.
+ */
+@Component
+@Slf4j
+public class ReservationCompactionJob {
+
+    private static final String ARCHIVE_BATCH = """
+            WITH purged AS (
+                DELETE FROM reservations
+                WHERE id IN (
+                    SELECT id FROM reservations
+                    WHERE deleted = true AND reserved_at < ?
+                    ORDER BY reserved_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING id, user_id, slot_id, reserved_at)
+            INSERT INTO reservations_archive (id, user_id, slot_id, reserved_at)
+            SELECT id, user_id, slot_id, reserved_at FROM purged
+            """;
+    private static final String BACKLOG = "SELECT count(*) FROM reservations WHERE deleted = true AND reserved_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration pauseBetweenBatches;
+
+    private final Counter archivedRows;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong rowsPerSecond = new AtomicLong();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "reservation-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReservationCompactionJob(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                                    @Value("${reservation.compaction.enabled:false}") boolean enabled,
+                                    @Value("${reservation.compaction.retention:P30D}") Duration retention,
+                                    @Value("${reservation.compaction.batch-size:500}") int batchSize,
+                                    @Value("${reservation.compaction.max-batches-per-run:200}") int maxBatchesPerRun,
+                                    @Value("${reservation.compaction.pause-between-batches:PT0.2S}") Duration pauseBetweenBatches) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pauseBetweenBatches = pauseBetweenBatches;
+
+        this.archivedRows = Counter.builder("reservation.compaction.archived")
+                .description("Cancelled reservations moved to reservations_archive")
+                .register(meterRegistry);
+        Gauge.builder("reservation.compaction.backlog", backlog, AtomicLong::get)
+                .description("Cancelled reservations past retention still waiting to be archived")
+                .register(meterRegistry);
+        Gauge.builder("reservation.compaction.rows-per-second", rowsPerSecond, AtomicLong::get)
+                .description("Archive throughput of the last compaction run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.compaction.interval:PT10M}",
+            initialDelayString = "${reservation.compaction.interval:PT10M}")
+    public void scheduleCompaction() {
+        if (!enabled || !running.compareAndSet(false, true)) {
+            return;
+        }
+        compactor.execute(() -> {
+            try {
+                compact();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    public void compact() {
+        if (!enabled) {
+            return;
+        }
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minus(retention));
+        long started = System.nanoTime();
+        long archived = 0;
+
+        try {
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                int moved = jdbcTemplate.update(ARCHIVE_BATCH, cutoff, batchSize);
+                archived += moved;
+                archivedRows.increment(moved);
+                if (moved < batchSize) {
+                    break;
+                }
+                Thread.sleep(pauseBetweenBatches.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            long elapsedMillis = Math.max(1, Duration.ofNanos(System.nanoTime() - started).toMillis());
+            rowsPerSecond.set(archived * 1000 / elapsedMillis);
+            Long remaining = jdbcTemplate.queryForObject(BACKLOG, Long.class, cutoff);
+            backlog.set(remaining == null ? 0 : remaining);
+            if (archived > 0) {
+                log.info("Archived {} cancelled reservations in {} ms, {} left", archived, elapsedMillis, backlog.get());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        compactor.shutdownNow();
+    }
+}
@@ -0,0 +1,186 @@
+package com.ali.reservation.infrastructure.persistence.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Keeps monthly available_slots partitions created ahead of time and detaches the ones that only hold slots older
+ * than the retention window, so the hot {@code start_time >= :from} queries only prune down to recent partitions.
+ * Detached partitions stay as standalone tables unless {@code drop-detached} is set.
+ * <p>
+ * Slots beyond the partitioned horizon (long schedules, imports) land in the default partition. A month is therefore
+ * created as a standalone table, filled with that month's rows from the default partition and then attached, instead
+ * of {@code CREATE TABLE ... PARTITION OF}, which fails while the default partition holds rows for the month.
+ * <p>
+ * DETACH takes an ACCESS EXCLUSIVE lock (CONCURRENTLY is not allowed next to the default partition), so each attempt
+ * runs with a short {@code lock_timeout} and gives up instead of queueing every slot query behind it. Slots that
+ * reservations still point at are moved to available_slots_archive. {@code reservations.slot_id} has no foreign key
+ * (a key cannot reference a partitioned table's {@code id} alone), so nothing stops it from pointing at an archived
+ * or dropped slot; loading such a reservation's slot through JPA finds no row.
+ */
+@Component
+@Slf4j
+public class SlotPartitionMaintenance {
+
+    private static final String PARENT = "available_slots";
+    private static final String PARTITION_PREFIX = PARENT + "_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String DEFAULT_PARTITION = PARENT + "_default";
+    private static final String ARCHIVE = PARENT + "_archive";
+
+    private static final String MOVE_FROM_DEFAULT = """
+            WITH moved AS (
+                DELETE FROM %s WHERE start_time >= ? AND start_time < ?
+                RETURNING id, start_time, end_time, is_reserved, version
+            )
+            INSERT INTO %s (id, start_time, end_time, is_reserved, version) SELECT * FROM moved
+            """;
+
+    private static final String ARCHIVE_REFERENCED_SLOTS = """
+            WITH referenced AS (
+                DELETE FROM %s s WHERE EXISTS (SELECT 1 FROM reservations r WHERE r.slot_id = s.id)
+                RETURNING s.id, s.start_time, s.end_time, s.is_reserved, s.version
+            )
+            INSERT INTO %s (id, start_time, end_time, is_reserved, version) SELECT * FROM referenced
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retainMonths;
+    private final boolean dropDetached;
+    private final Duration lockTimeout;
+    private final int detachAttempts;
+
+    public SlotPartitionMaintenance(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                    @Value("${reservation.partitioning.enabled:false}") boolean enabled,
+                                    @Value("${reservation.partitioning.months-ahead:3}") int monthsAhead,
+                                    @Value("${reservation.partitioning.retain-months:2}") int retainMonths,
+                                    @Value("${reservation.partitioning.drop-detached:false}") boolean dropDetached,
+                                    @Value("${reservation.partitioning.lock-timeout:PT2S}") Duration lockTimeout,
+                                    @Value("${reservation.partitioning.detach-attempts:5}") int detachAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retainMonths = retainMonths;
+        this.dropDetached = dropDetached;
+        this.lockTimeout = lockTimeout;
+        this.detachAttempts = detachAttempts;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void maintainOnStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${reservation.partitioning.cron:0 15 3 * * *}")
+    public void maintain() {
+        if (!enabled || !isPartitioned()) {
+            return;
+        }
+        YearMonth current = YearMonth.from(LocalDate.now());
+        for (int month = 0; month <= monthsAhead; month++) {
+            createPartition(current.plusMonths(month));
+        }
+        detachBefore(current.minusMonths(retainMonths));
+    }
+
+    private boolean isPartitioned() {
+        Integer partitioned = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid WHERE c.relname = ?",
+                Integer.class, PARENT);
+        return partitioned != null && partitioned > 0;
+    }
+
+    private void createPartition(YearMonth month) {
+        String partition = PARTITION_PREFIX + month.format(SUFFIX);
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition);
+        if (Boolean.TRUE.equals(exists)) {
+            return;
+        }
+        try {
+            Integer moved = transactionTemplate.execute(status -> {
+                jdbcTemplate.execute("SET LOCAL lock_timeout = %d".formatted(lockTimeout.toMillis()));
+                jdbcTemplate.execute("CREATE TABLE %s (LIKE %s INCLUDING DEFAULTS)".formatted(partition, PARENT));
+                int rows = jdbcTemplate.update(MOVE_FROM_DEFAULT.formatted(DEFAULT_PARTITION, partition),
+                        from.atStartOfDay(), to.atStartOfDay());
+                jdbcTemplate.execute("ALTER TABLE %s ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')"
+                        .formatted(PARENT, partition, from, to));
+                return rows;
+            });
+            if (moved != null && moved > 0) {
+                log.info("Moved {} slots from the default partition into new partition {}", moved, partition);
+            }
+        } catch (DataAccessException e) {
+            log.error("Could not create slot partition for {}; rows for that month stay in the default partition "
+                    + "until the next run", month, e);
+        }
+    }
+
+    private void detachBefore(YearMonth cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                WHERE p.relname = ? AND c.relname LIKE ?
+                ORDER BY c.relname
+                """, String.class, PARENT, PARTITION_PREFIX + "%");
+
+        for (String partition : partitions) {
+            YearMonth month = YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), SUFFIX);
+            if (!month.isBefore(cutoff)) {
+                continue;
+            }
+            if (!detach(partition)) {
+                continue;
+            }
+            if (dropDetached) {
+                jdbcTemplate.execute("DROP TABLE %s".formatted(partition));
+                log.info("Dropped slot partition {}", partition);
+            } else {
+                log.info("Detached slot partition {} for archival", partition);
+            }
+        }
+    }
+
+    private boolean detach(String partition) {
+        for (int attempt = 1; attempt <= detachAttempts; attempt++) {
+            try {
+                Integer archived = transactionTemplate.execute(status -> {
+                    jdbcTemplate.execute("SET LOCAL lock_timeout = %d".formatted(lockTimeout.toMillis()));
+                    jdbcTemplate.execute("ALTER TABLE %s DETACH PARTITION %s".formatted(PARENT, partition));
+                    return jdbcTemplate.update(ARCHIVE_REFERENCED_SLOTS.formatted(partition, ARCHIVE));
+                });
+                if (archived != null && archived > 0) {
+                    log.info("Moved {} reserved slots of partition {} to {}", archived, partition, ARCHIVE);
+                }
+                return true;
+            } catch (PessimisticLockingFailureException e) {
+                log.debug("Detaching slot partition {} timed out waiting for its lock (attempt {}/{})",
+                        partition, attempt, detachAttempts);
+            }
+        }
+        log.warn("Could not lock slot partition {} within {} attempts; retrying on the next run", partition, detachAttempts);
+        return false;
+    }
+}
@@ -0,0 +1,6 @@
+package com.ali.reservation.infrastructure.persistence.projection;
+
+import java.time.LocalDateTime;
+
+public record SlotStateView(Long id, LocalDateTime startTime, boolean reserved) {
+}
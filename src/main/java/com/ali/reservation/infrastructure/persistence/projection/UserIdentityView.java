@@ -0,0 +1,4 @@
+package com.ali.reservation.infrastructure.persistence.projection;
+
+public record UserIdentityView(String username, String email) {
+}
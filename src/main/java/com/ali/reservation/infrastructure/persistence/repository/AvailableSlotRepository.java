@@ -2,6 +2,11 @@ package com.ali.reservation.infrastructure.persistence.repository;
 
 
 import com.ali.reservation.infrastructure.persistence.entity.AvailableSlotEntity;
+import com.ali.reservation.infrastructure.persistence.projection.SlotAvailabilityView;
+import com.ali.reservation.infrastructure.persistence.projection.SlotStateView;
+import com.ali.reservation.infrastructure.persistence.projection.SlotWindowView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
@@ -9,7 +14,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AvailableSlotRepository extends JpaRepository<AvailableSlotEntity, Long> {
@@ -19,8 +26,42 @@ public interface AvailableSlotRepository extends JpaRepository<AvailableSlotEnti
             "AND s.startTime >= :fromTime ORDER BY s.startTime")
     Page<AvailableSlotEntity> findAvailableSlots(@Param("fromTime") LocalDateTime fromTime, Pageable pageable);
 
+    @Query("SELECT s FROM AvailableSlotEntity s WHERE s.isReserved = false " +
+            "AND s.startTime >= :fromTime ORDER BY s.startTime, s.id")
+    List<AvailableSlotEntity> findAvailableSlotsFrom(@Param("fromTime") LocalDateTime fromTime, Pageable pageable);
+
+    @Query("SELECT s FROM AvailableSlotEntity s WHERE s.isReserved = false " +
+            "AND s.startTime >= :afterTime " +
+            "AND (s.startTime > :afterTime OR (s.startTime = :afterTime AND s.id > :afterId)) " +
+            "ORDER BY s.startTime, s.id")
+    List<AvailableSlotEntity> findAvailableSlotsAfter(@Param("afterTime") LocalDateTime afterTime,
+                                                      @Param("afterId") Long afterId,
+                                                      Pageable pageable);
+
     @Query("SELECT s FROM AvailableSlotEntity s WHERE s.isReserved = false " +
             "AND s.startTime = :fromTime")
     Optional<AvailableSlotEntity> findByStartTime(@Param("fromTime") LocalDateTime fromTime);
 
+    @Query("SELECT COUNT(s) > 0 FROM AvailableSlotEntity s WHERE s.isReserved = true AND s.startTime = :startTime")
+    boolean isReservedAt(@Param("startTime") LocalDateTime startTime);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.ali.reservation.infrastructure.persistence.projection.SlotWindowView(s.startTime, s.endTime) " +
+            "FROM AvailableSlotEntity s WHERE s.isReserved = false " +
+            "AND s.startTime >= :fromTime AND s.startTime < :toTime ORDER BY s.startTime")
+    Stream<SlotWindowView> streamAvailableSlots(@Param("fromTime") LocalDateTime fromTime,
+                                                @Param("toTime") LocalDateTime toTime);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.ali.reservation.infrastructure.persistence.projection.SlotAvailabilityView(" +
+            "s.startTime, s.endTime, s.isReserved) " +
+            "FROM AvailableSlotEntity s WHERE s.startTime >= :fromTime ORDER BY s.startTime")
+    Stream<SlotAvailabilityView> streamSlotAvailability(@Param("fromTime") LocalDateTime fromTime);
+
+    @Query("SELECT new com.ali.reservation.infrastructure.persistence.projection.SlotStateView(s.id, s.startTime, s.isReserved) " +
+            "FROM AvailableSlotEntity s WHERE s.startTime >= :fromTime")
+    List<SlotStateView> findSlotStates(@Param("fromTime") LocalDateTime fromTime);
+
+    @Query("SELECT s.startTime FROM AvailableSlotEntity s WHERE s.startTime >= :fromTime")
+    List<LocalDateTime> findStartTimesFrom(@Param("fromTime") LocalDateTime fromTime);
 }
@@ -2,12 +2,62 @@ package com.ali.reservation.infrastructure.persistence.repository;
 
 import com.ali.reservation.infrastructure.persistence.entity.ReservationEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<ReservationEntity, Long> {
 
     Optional<ReservationEntity> findByUserIdAndSlotId(Long userId, Long slotId);
-}
\ No newline at end of file
+
+    @Query(value = """
+            WITH claimed AS (
+                UPDATE available_slots
+                   SET is_reserved = true, version = version + 1
+                 WHERE start_time = :startTime AND is_reserved = false
+                RETURNING id
+            )
+            INSERT INTO reservations (id, user_id, slot_id, reserved_at, deleted)
+            SELECT nextval('entity_id_seq'), :userId, id, :reservedAt, false FROM claimed
+            RETURNING slot_id
+            """, nativeQuery = true)
+    Optional<Long> claimSlotByStartTime(@Param("userId") Long userId,
+                                        @Param("startTime") LocalDateTime startTime,
+                                        @Param("reservedAt") LocalDateTime reservedAt);
+
+    @Query(value = """
+            WITH claimed AS (
+                UPDATE available_slots
+                   SET is_reserved = true, version = version + 1
+                 WHERE id = :slotId AND is_reserved = false
+                RETURNING id
+            )
+            INSERT INTO reservations (id, user_id, slot_id, reserved_at, deleted)
+            SELECT nextval('entity_id_seq'), :userId, id, :reservedAt, false FROM claimed
+            RETURNING slot_id
+            """, nativeQuery = true)
+    Optional<Long> claimSlotById(@Param("userId") Long userId,
+                                 @Param("slotId") Long slotId,
+                                 @Param("reservedAt") LocalDateTime reservedAt);
+
+    @Query(value = """
+            WITH claimed AS (
+                UPDATE available_slots
+                   SET is_reserved = true, version = version + 1
+                 WHERE start_time IN (:startTimes) AND is_reserved = false
+                RETURNING id
+            )
+            INSERT INTO reservations (id, user_id, slot_id, reserved_at, deleted)
+            SELECT nextval('entity_id_seq'), :userId, id, :reservedAt, false FROM claimed
+            RETURNING slot_id
+            """, nativeQuery = true)
+    List<Long> claimSlotsByStartTimes(@Param("userId") Long userId,
+                                      @Param("startTimes") Collection<LocalDateTime> startTimes,
+                                      @Param("reservedAt") LocalDateTime reservedAt);
+}
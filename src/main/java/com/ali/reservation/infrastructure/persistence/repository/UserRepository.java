@@ -1,11 +1,16 @@
 package com.ali.reservation.infrastructure.persistence.repository;
 
 import com.ali.reservation.infrastructure.persistence.entity.UserEntity;
+import com.ali.reservation.infrastructure.persistence.projection.UserIdentityView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByUsername(String username);
@@ -21,4 +26,8 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     boolean existsByUsernameOrEmail(@Param("username") String username,
                                     @Param("email") String email);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.ali.reservation.infrastructure.persistence.projection.UserIdentityView(u.username, u.email) " +
+            "FROM UserEntity u")
+    Stream<UserIdentityView> streamIdentities();
 }
@@ -0,0 +1,97 @@
+package com.ali.reservation.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Rejects over-limit clients with a pre-rendered 429 before the request reaches Spring Security.
+ * Clients are keyed by remote address; behind proxies set {@code trustedProxies} to the number of proxy hops so the
+ * client is read from the {@code X-Forwarded-For} entry appended by the outermost trusted proxy.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] TOO_MANY_REQUESTS_BODY = ("{\"status\":429,\"error\":\"Too Many Requests\"," +
+            "\"message\":\"Rate limit exceeded, please retry later\"}").getBytes(StandardCharsets.UTF_8);
+
+    private final List<RateLimitRule> rules;
+    private final int trustedProxies;
+    private final Map<String, Counter> rejections;
+
+    public RateLimitFilter(List<RateLimitRule> rules, int trustedProxies, MeterRegistry meterRegistry) {
+        this.rules = rules;
+        this.trustedProxies = trustedProxies;
+        this.rejections = rules.stream().collect(Collectors.toMap(RateLimitRule::getName,
+                rule -> Counter.builder("reservation.rate-limit.rejected")
+                        .description("Requests rejected by the in-process rate limiter")
+                        .tag("group", rule.getName())
+                        .register(meterRegistry)));
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RateLimitRule rule = matchingRule(request);
+        if (rule != null) {
+            long retryAfterNanos = rule.tryAcquire(
+                    clientOf(request.getRemoteAddr(), request.getHeader("X-Forwarded-For"), trustedProxies));
+            if (retryAfterNanos > 0) {
+                rejections.get(rule.getName()).increment();
+                reject(response, retryAfterNanos);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private RateLimitRule matchingRule(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getRequestURI();
+        for (RateLimitRule rule : rules) {
+            if (rule.matches(method, path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Entries left of the trusted hops are client-supplied and ignored; each trusted proxy appends the address it saw,
+     * so the client is the entry {@code trustedProxies} positions from the right.
+     */
+    static String clientOf(String remoteAddr, String forwardedFor, int trustedProxies) {
+        if (trustedProxies <= 0 || forwardedFor == null || forwardedFor.isBlank()) {
+            return remoteAddr;
+        }
+        String[] hops = forwardedFor.split(",");
+        if (hops.length < trustedProxies) {
+            return remoteAddr;
+        }
+        String client = hops[hops.length - trustedProxies].trim();
+        return client.isEmpty() ? remoteAddr : client;
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(TOO_MANY_REQUESTS_BODY.length);
+        response.getOutputStream().write(TOO_MANY_REQUESTS_BODY);
+    }
+}
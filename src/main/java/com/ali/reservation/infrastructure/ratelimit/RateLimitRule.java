@@ -0,0 +1,61 @@
+package com.ali.reservation.infrastructure.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket per client for one route group, kept as a single theoretical-arrival timestamp (GCRA)
+ * so admitting a request is one compare-and-set.
+ */
+public class RateLimitRule {
+
+    @Getter
+    private final String name;
+    private final Set<String> methods;
+    private final String pathPrefix;
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final Cache<String, AtomicLong> buckets;
+
+    public RateLimitRule(String name, Set<String> methods, String pathPrefix, int capacity, double refillPerSecond,
+                         long maxClients, Duration idleExpiry) {
+        this.name = name;
+        this.methods = methods;
+        this.pathPrefix = pathPrefix;
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (Math.max(capacity, 1) - 1);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(idleExpiry)
+                .build();
+    }
+
+    public boolean matches(String method, String path) {
+        return methods.contains(method) && path.startsWith(pathPrefix);
+    }
+
+    /**
+     * @return 0 when the request is admitted, otherwise the nanoseconds until the client may retry
+     */
+    public long tryAcquire(String client) {
+        AtomicLong theoreticalArrival = buckets.get(client, key -> new AtomicLong(System.nanoTime()));
+        while (true) {
+            long arrival = theoreticalArrival.get();
+            long now = System.nanoTime();
+            long start = Math.max(arrival, now);
+            long waited = start - now;
+            if (waited > burstToleranceNanos) {
+                return waited - burstToleranceNanos;
+            }
+            if (theoreticalArrival.compareAndSet(arrival, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+}
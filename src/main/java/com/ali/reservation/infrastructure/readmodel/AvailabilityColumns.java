@@ -0,0 +1,140 @@
+package com.ali.reservation.infrastructure.readmodel;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.IntConsumer;
+
+/**
+ * Columnar snapshot of slot availability: start/end epoch seconds in direct (off-heap) buffers sorted by start,
+ * and one reserved bit per slot. Columns are immutable after build; only the reserved bits change.
+ */
+final class AvailabilityColumns {
+
+    private final LongBuffer starts;
+    private final LongBuffer ends;
+    private final AtomicLongArray reservedBits;
+    private final int size;
+
+    private AvailabilityColumns(LongBuffer starts, LongBuffer ends, AtomicLongArray reservedBits, int size) {
+        this.starts = starts;
+        this.ends = ends;
+        this.reservedBits = reservedBits;
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long startAt(int index) {
+        return starts.get(index);
+    }
+
+    long endAt(int index) {
+        return ends.get(index);
+    }
+
+    int lowerBound(long start) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts.get(mid) < start) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    int indexOf(long start) {
+        int index = lowerBound(start);
+        return index < size && starts.get(index) == start ? index : -1;
+    }
+
+    void setReserved(int index, boolean reserved) {
+        long mask = 1L << index;
+        reservedBits.updateAndGet(index >>> 6, word -> reserved ? word | mask : word & ~mask);
+    }
+
+    long countFree(int from) {
+        long count = 0;
+        for (int word = from >>> 6; word < words(); word++) {
+            count += Long.bitCount(freeBits(word, from));
+        }
+        return count;
+    }
+
+    void forEachFree(int from, long skip, int limit, IntConsumer action) {
+        for (int word = from >>> 6; word < words() && limit > 0; word++) {
+            long bits = freeBits(word, from);
+            int free = Long.bitCount(bits);
+            if (skip >= free) {
+                skip -= free;
+                continue;
+            }
+            while (bits != 0 && limit > 0) {
+                int bit = Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (skip > 0) {
+                    skip--;
+                    continue;
+                }
+                action.accept((word << 6) + bit);
+                limit--;
+            }
+        }
+    }
+
+    private long freeBits(int word, int from) {
+        long bits = ~reservedBits.get(word);
+        if (word == from >>> 6) {
+            bits &= -1L << from;
+        }
+        if (word == words() - 1 && (size & 63) != 0) {
+            bits &= (1L << size) - 1;
+        }
+        return bits;
+    }
+
+    private int words() {
+        return (size + 63) >>> 6;
+    }
+
+    static final class Builder {
+
+        private long[] starts = new long[1024];
+        private long[] ends = new long[1024];
+        private long[] reservedBits = new long[16];
+        private int size;
+
+        void add(long start, long end, boolean reserved) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+                reservedBits = Arrays.copyOf(reservedBits, size * 2 / 64);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            if (reserved) {
+                reservedBits[size >>> 6] |= 1L << size;
+            }
+            size++;
+        }
+
+        AvailabilityColumns build() {
+            return new AvailabilityColumns(offHeap(starts, size), offHeap(ends, size),
+                    new AtomicLongArray(Arrays.copyOf(reservedBits, (size + 63) >>> 6)), size);
+        }
+
+        private static LongBuffer offHeap(long[] values, int size) {
+            LongBuffer buffer = ByteBuffer.allocateDirect(size * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+            buffer.put(values, 0, size);
+            return buffer;
+        }
+    }
+}
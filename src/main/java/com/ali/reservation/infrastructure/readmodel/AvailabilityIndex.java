@@ -0,0 +1,153 @@
+package com.ali.reservation.infrastructure.readmodel;
+
+import com.ali.reservation.presentation.dto.response.ReservationResponse;
+import com.ali.reservation.usecase.event.SlotAvailabilityChangedEvent;
+import com.ali.reservation.usecase.event.SlotsAddedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Optional read model answering slot listings from an {@link AvailabilityColumns} snapshot instead of the database.
+ * The snapshot is rebuilt on startup and on a fixed delay; reservations and cancellations flip reserved bits in place.
+ * Newly inserted slots cannot be spliced into the sorted columns, so they trigger one coalesced background rebuild.
+ */
+@Component
+@Slf4j
+public class AvailabilityIndex {
+
+    private final AvailabilityIndexLoader loader;
+
+    @Getter
+    private final boolean enabled;
+
+    private final Queue<SlotAvailabilityChangedEvent> changesDuringRebuild = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "availability-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile AvailabilityColumns columns;
+    private volatile boolean rebuilding;
+
+    AvailabilityIndex(AvailabilityIndexLoader loader, @Value("${reservation.read-model.enabled:false}") boolean enabled) {
+        this.loader = loader;
+        this.enabled = enabled;
+    }
+
+    public boolean isServing() {
+        return enabled && columns != null;
+    }
+
+    public Page<ReservationResponse> findAvailable(LocalDateTime from, Pageable pageable) {
+        AvailabilityColumns snapshot = columns;
+        int first = snapshot.lowerBound(toEpochSecond(from));
+        List<ReservationResponse> content = new ArrayList<>(pageable.getPageSize());
+        snapshot.forEachFree(first, pageable.getOffset(), pageable.getPageSize(),
+                index -> content.add(toResponse(snapshot, index)));
+        return new PageImpl<>(content, pageable, snapshot.countFree(first));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.read-model.refresh-interval:PT5M}",
+            initialDelayString = "${reservation.read-model.refresh-interval:PT5M}")
+    public synchronized void refresh() {
+        if (!enabled) {
+            return;
+        }
+        rebuilding = true;
+        try {
+            AvailabilityColumns rebuilt = loader.load(LocalDateTime.now());
+            columns = rebuilt;
+            rebuilding = false;
+            SlotAvailabilityChangedEvent change;
+            while ((change = changesDuringRebuild.poll()) != null) {
+                apply(rebuilt, change);
+            }
+            log.info("Availability index rebuilt with {} slots", rebuilt.size());
+        } finally {
+            rebuilding = false;
+            changesDuringRebuild.clear();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotAvailabilityChanged(SlotAvailabilityChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        if (rebuilding) {
+            changesDuringRebuild.add(event);
+        }
+        AvailabilityColumns snapshot = columns;
+        if (snapshot != null) {
+            apply(snapshot, event);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotsAdded(SlotsAddedEvent event) {
+        if (!enabled || event.slots().isEmpty() || !rebuildRequested.compareAndSet(false, true)) {
+            return;
+        }
+        rebuilder.execute(() -> {
+            rebuildRequested.set(false);
+            refresh();
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private void apply(AvailabilityColumns snapshot, SlotAvailabilityChangedEvent event) {
+        for (LocalDateTime startTime : event.startTimes()) {
+            int index = snapshot.indexOf(toEpochSecond(startTime));
+            if (index >= 0) {
+                snapshot.setReserved(index, event.reserved());
+            }
+        }
+    }
+
+    private static ReservationResponse toResponse(AvailabilityColumns snapshot, int index) {
+        ReservationResponse response = new ReservationResponse();
+        response.setStartTime(toLocalDateTime(snapshot.startAt(index)));
+        response.setEndTime(toLocalDateTime(snapshot.endAt(index)));
+        return response;
+    }
+
+    static long toEpochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ali.reservation.infrastructure.readmodel;
+
+import com.ali.reservation.infrastructure.persistence.projection.SlotAvailabilityView;
+import com.ali.reservation.infrastructure.persistence.repository.AvailableSlotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static com.ali.reservation.infrastructure.readmodel.AvailabilityIndex.toEpochSecond;
+
+@Component
+@RequiredArgsConstructor
+class AvailabilityIndexLoader {
+
+    private final AvailableSlotRepository repository;
+
+    @Transactional(readOnly = true)
+    public AvailabilityColumns load(LocalDateTime from) {
+        AvailabilityColumns.Builder builder = new AvailabilityColumns.Builder();
+        try (Stream<SlotAvailabilityView> slots = repository.streamSlotAvailability(from)) {
+            slots.forEach(slot -> builder.add(toEpochSecond(slot.startTime()), toEpochSecond(slot.endTime()), slot.reserved()));
+        }
+        return builder.build();
+    }
+}
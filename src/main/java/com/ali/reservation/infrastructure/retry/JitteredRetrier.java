@@ -0,0 +1,92 @@
+package com.ali.reservation.infrastructure.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Retries transient failures with decorrelated jitter ({@code sleep = min(cap, random(base, previous * 3))}) so
+ * contenders that collided once spread out instead of colliding again. Every retry is paid from a shared
+ * {@link RetryBudget}; when the budget is spent the failure is returned to the caller as is.
+ */
+@Component
+public class JitteredRetrier {
+
+    private final MeterRegistry meterRegistry;
+    private final RetryBudget budget;
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    public JitteredRetrier(MeterRegistry meterRegistry,
+                           @Value("${reservation.retry.max-attempts:3}") int maxAttempts,
+                           @Value("${reservation.retry.base-delay:PT0.02S}") Duration baseDelay,
+                           @Value("${reservation.retry.max-delay:PT0.5S}") Duration maxDelay,
+                           @Value("${reservation.retry.budget.ratio:0.1}") double budgetRatio,
+                           @Value("${reservation.retry.budget.min-retries-per-second:5}") int minRetriesPerSecond,
+                           @Value("${reservation.retry.budget.window:PT10S}") Duration budgetWindow) {
+        this.meterRegistry = meterRegistry;
+        this.budget = new RetryBudget(budgetRatio, minRetriesPerSecond, budgetWindow);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelayMillis = Math.max(1, baseDelay.toMillis());
+        this.maxDelayMillis = Math.max(baseDelayMillis, maxDelay.toMillis());
+    }
+
+    /**
+     * @param retryOn  failures worth another attempt
+     * @param failFast checked after a retryable failure; {@code true} means another attempt cannot succeed
+     */
+    public <T> T execute(String operation, Supplier<T> action, Set<Class<? extends RuntimeException>> retryOn,
+                         BooleanSupplier failFast) {
+        budget.recordCall();
+        long delayMillis = baseDelayMillis;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return action.get();
+            } catch (RuntimeException e) {
+                if (retryOn.stream().noneMatch(type -> type.isInstance(e))) {
+                    throw e;
+                }
+                if (failFast.getAsBoolean()) {
+                    count("reservation.retry.fail-fast", operation);
+                    throw e;
+                }
+                if (attempt >= maxAttempts) {
+                    count("reservation.retry.exhausted", operation);
+                    throw e;
+                }
+                if (!budget.tryAcquireRetry()) {
+                    count("reservation.retry.budget.exhausted", operation);
+                    throw e;
+                }
+                count("reservation.retry.attempts", operation);
+                delayMillis = nextDelayMillis(delayMillis);
+                sleep(delayMillis, e);
+            }
+        }
+    }
+
+    long nextDelayMillis(long previousDelayMillis) {
+        return Math.min(maxDelayMillis,
+                ThreadLocalRandom.current().nextLong(baseDelayMillis, previousDelayMillis * 3 + 1));
+    }
+
+    private void count(String name, String operation) {
+        meterRegistry.counter(name, "operation", operation).increment();
+    }
+
+    private static void sleep(long millis, RuntimeException failure) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.ali.reservation.infrastructure.retry;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Caps retries at a fraction of the calls seen over a sliding window of one-second buckets,
+ * with a small floor so a quiet service can still retry.
+ */
+public class RetryBudget {
+
+    private final double ratio;
+    private final long minRetries;
+    private final long[] seconds;
+    private final long[] calls;
+    private final long[] retries;
+    private final LongSupplier nanoClock;
+
+    public RetryBudget(double ratio, int minRetriesPerSecond, Duration window) {
+        this(ratio, minRetriesPerSecond, window, System::nanoTime);
+    }
+
+    RetryBudget(double ratio, int minRetriesPerSecond, Duration window, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        int windowSeconds = (int) Math.max(1, window.toSeconds());
+        this.ratio = ratio;
+        this.minRetries = (long) minRetriesPerSecond * windowSeconds;
+        this.seconds = new long[windowSeconds];
+        this.calls = new long[windowSeconds];
+        this.retries = new long[windowSeconds];
+    }
+
+    public synchronized void recordCall() {
+        calls[bucket(currentSecond())]++;
+    }
+
+    public synchronized boolean tryAcquireRetry() {
+        long now = currentSecond();
+        int current = bucket(now);
+        long recentCalls = 0;
+        long recentRetries = 0;
+        for (int i = 0; i < seconds.length; i++) {
+            if (now - seconds[i] < seconds.length) {
+                recentCalls += calls[i];
+                recentRetries += retries[i];
+            }
+        }
+        if (recentRetries >= Math.max(minRetries, (long) (recentCalls * ratio))) {
+            return false;
+        }
+        retries[current]++;
+        return true;
+    }
+
+    private int bucket(long second) {
+        int index = Math.floorMod(second, seconds.length);
+        if (seconds[index] != second) {
+            seconds[index] = second;
+            calls[index] = 0;
+            retries[index] = 0;
+        }
+        return index;
+    }
+
+    private long currentSecond() {
+        return Math.floorDiv(nanoClock.getAsLong(), 1_000_000_000L);
+    }
+}
@@ -4,12 +4,16 @@ import com.ali.reservation.presentation.mapper.UserSecurityMapper;
 import com.ali.reservation.infrastructure.persistence.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -17,13 +21,36 @@ public class CustomUserDetailsService implements UserDetailsService {
     
     private final UserRepository userRepository;
     private final UserSecurityMapper userSecurityMapper;
+    private final AccountStatusUserDetailsChecker accountStatusChecker = new AccountStatusUserDetailsChecker();
+
+    @Value("${security.admin-usernames:}")
+    private Set<String> adminUsernames;
 
     @Override
     @Cacheable(value = "users", key = "#username")
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         log.debug("Loading user by username: {}", username);
         
-        return userRepository.findByUsername(username).map(userSecurityMapper::toUserSecurity)
+        UserSecurity user = userRepository.findByUsername(username).map(userSecurityMapper::toUserSecurity)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+        return withRoles(user);
+    }
+
+    /**
+     * Uncached lookup for re-issuing tokens, so deleted or disabled users and removed roles take effect on the next
+     * refresh instead of living on in token claims.
+     */
+    public UserSecurity loadCurrentUser(Long id) {
+        UserSecurity user = userRepository.findById(id).map(userSecurityMapper::toUserSecurity)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + id));
+        accountStatusChecker.check(user);
+        return withRoles(user);
+    }
+
+    private UserSecurity withRoles(UserSecurity user) {
+        if (adminUsernames.contains(user.getUsername())) {
+            user.setRoles(Set.of(UserSecurity.ADMIN));
+        }
+        return user;
     }
 }
\ No newline at end of file
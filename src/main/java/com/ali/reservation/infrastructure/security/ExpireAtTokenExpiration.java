@@ -0,0 +1,32 @@
+package com.ali.reservation.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+class ExpireAtTokenExpiration<V> implements Expiry<String, V> {
+
+    private final Function<V, Date> expiration;
+
+    ExpireAtTokenExpiration(Function<V, Date> expiration) {
+        this.expiration = expiration;
+    }
+
+    @Override
+    public long expireAfterCreate(String key, V value, long currentTime) {
+        long remainingMillis = expiration.apply(value).getTime() - System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, V value, long currentTime, long currentDuration) {
+        return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+}
@@ -1,12 +1,14 @@
 package com.ali.reservation.infrastructure.security;
 
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -23,7 +25,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenDenyList tokenDenyList;
 
+    @Value("${jwt.stateless.enabled:false}")
+    private boolean stateless;
+
+    @Value("${jwt.revocation.enabled:true}")
+    private boolean revocationEnabled;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
@@ -38,17 +46,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             final String jwt = authHeader.substring(7);
 
-            final String username = jwtService.extractUsername(jwt);
+            final Claims claims = jwtService.verify(jwt)
+                    .filter(verified -> !jwtService.isRefreshToken(verified))
+                    .filter(verified -> !revocationEnabled || !tokenDenyList.isRevoked(verified))
+                    .orElse(null);
 
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            if (claims != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                UserDetails userDetails = stateless
+                        ? jwtService.toUserSecurity(claims)
+                        : this.userDetailsService.loadUserByUsername(claims.getSubject());
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
-                    var authToken = new UsernamePasswordAuthenticationToken(userDetails, null,
-                            userDetails.getAuthorities());
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+                var authToken = new UsernamePasswordAuthenticationToken(userDetails, null,
+                        userDetails.getAuthorities());
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         } catch (Exception e) {
             logger.error("JWT validation error: " + e.getMessage());
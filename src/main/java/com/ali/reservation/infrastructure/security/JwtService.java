@@ -1,102 +1,165 @@
 package com.ali.reservation.infrastructure.security;
 
-import com.ali.reservation.presentation.exption.ApplicationException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
-
-import static com.ali.reservation.presentation.exption.ErrorType.TOKEN_INVALID;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 public class JwtService {
 
+    private static final String TOKEN_TYPE = "type";
+    private static final String ACCESS = "access";
+    private static final String REFRESH = "refresh";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
     @Value("${jwt.access-token.expiration}")
     private long accessTokenExpiration;
 
+    @Value("${jwt.refresh-token.expiration:1209600000}")
+    private long refreshTokenExpiration;
+
+    @Value("${jwt.session.expiration:2592000000}")
+    private long sessionExpiration;
+
     @Value("${jwt.issuer}")
     private String issuer;
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize;
+
+    private SecretKey signInKey;
+    private JwtParser parser;
+    private Cache<String, Claims> verifiedTokens;
+
+    @PostConstruct
+    void prepareKeys() {
+        signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        parser = Jwts.parser().verifyWith(signInKey).build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new ExpireAtTokenExpiration<>(Claims::getExpiration))
+                .build();
     }
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
+    /**
+     * Verifies the signature and expiry once; tokens seen before are answered from a cache keyed by their SHA-256
+     * hash that drops each entry when the token itself expires.
+     *
+     * @return the verified claims, or empty when the token is invalid or expired
+     */
+    public Optional<Claims> verify(String token) {
+        String tokenHash = hash(token);
+        Claims cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
 
-    public String generateToken(UserSecurity user) {
-        Map<String, Object> extraClaims = new HashMap<>();
-        extraClaims.put("roles", user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
-        extraClaims.put("userId", user.getId());
-        return buildToken(extraClaims, user, accessTokenExpiration);
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(tokenHash, claims);
+            }
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("JWT validation error: {}", e.getMessage());
+            return Optional.empty();
+        }
     }
 
+    public UserSecurity toUserSecurity(Claims claims) {
+        return UserSecurity.builder()
+                .id(claims.get("userId", Number.class).longValue())
+                .username(claims.getSubject())
+                .email(claims.get("email", String.class))
+                .roles(rolesOf(claims))
+                .build();
+    }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        try {
-            final String username = extractUsername(token);
-            return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-        } catch (JwtException | IllegalArgumentException e) {
-            log.error("JWT validation error: {}", e.getMessage());
-            return false;
+    private static Set<String> rolesOf(Claims claims) {
+        Object roles = claims.get("roles");
+        if (!(roles instanceof Collection<?> authorities)) {
+            return Set.of();
         }
+        return authorities.stream()
+                .map(String::valueOf)
+                .filter(authority -> authority.startsWith(UserSecurity.ROLE_PREFIX))
+                .map(authority -> authority.substring(UserSecurity.ROLE_PREFIX.length()))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public TokenSession startSession() {
+        return new TokenSession(UUID.randomUUID().toString(), new Date(System.currentTimeMillis() + sessionExpiration));
     }
 
-    private String buildToken(Map<String, Object> extraClaims, UserSecurity user, long expiration) {
+    public String generateToken(UserSecurity user, TokenSession session) {
+        return buildToken(userClaims(user, ACCESS, session), user, accessTokenExpiration, session);
+    }
+
+    public String generateRefreshToken(UserSecurity user, TokenSession session) {
+        return buildToken(userClaims(user, REFRESH, session), user, refreshTokenExpiration, session);
+    }
+
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH.equals(claims.get(TOKEN_TYPE, String.class));
+    }
+
+    private Map<String, Object> userClaims(UserSecurity user, String tokenType, TokenSession session) {
+        Map<String, Object> extraClaims = new HashMap<>();
+        extraClaims.put("roles", user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+        extraClaims.put("userId", user.getId());
+        extraClaims.put("email", user.getEmail());
+        extraClaims.put(TOKEN_TYPE, tokenType);
+        session.writeTo(extraClaims);
+        return extraClaims;
+    }
+
+    private String buildToken(Map<String, Object> extraClaims, UserSecurity user, long expiration,
+                              TokenSession session) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
                 .claims(extraClaims)
+                .id(UUID.randomUUID().toString())
                 .subject(user.getUsername())
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration))
+                .issuedAt(new Date(now))
+                .expiration(new Date(Math.min(now + expiration, session.expiresAt().getTime())))
                 .issuer(issuer)
-                .signWith(getSignInKey(), Jwts.SIG.HS256)
+                .signWith(signInKey, Jwts.SIG.HS256)
                 .compact();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractClaim(token, Claims::getExpiration).before(new Date());
-    }
-
-    private Claims extractAllClaims(String token) {
+    private static String hash(String token) {
         try {
-
-            return Jwts.parser()
-                    .verifyWith(getSignInKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
-        } catch (ExpiredJwtException e) {
-            log.warn("JWT token is expired: {}", e.getMessage());
-            return e.getClaims();
-        } catch (Exception e) {
-            log.error("Invalid JWT token: {}", e.getMessage());
-            throw new ApplicationException(TOKEN_INVALID, "Invalid JWT token: " + e.getMessage());
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
-
-
-    private SecretKey getSignInKey() {
-        byte[] keyByte = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyByte);
-    }
 }
\ No newline at end of file
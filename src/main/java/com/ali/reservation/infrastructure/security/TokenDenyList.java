@@ -0,0 +1,77 @@
+package com.ali.reservation.infrastructure.security;
+
+import com.ali.reservation.infrastructure.bloom.BloomFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Revoked token ids ({@code jti}) and session ids, each kept only until the token or session would have expired
+ * anyway. The exact set is bounded by expiry alone: evicting a live revocation would let a rotated token be reused.
+ * Revocations are bucketed by the token's expiry into small Bloom filters, so checking a token touches one filter
+ * and only a Bloom hit falls through to the exact set. A bucket is dropped once every token in it has expired.
+ */
+@Component
+public class TokenDenyList {
+
+    private final long bucketMillis;
+    private final long bucketCapacity;
+    private final ConcurrentNavigableMap<Long, BloomFilter> buckets = new ConcurrentSkipListMap<>();
+    private final Cache<String, Date> revoked;
+
+    private static final String SESSION_PREFIX = "session:";
+
+    public TokenDenyList(@Value("${jwt.revocation.bucket-seconds:900}") long bucketSeconds,
+                         @Value("${jwt.revocation.bucket-capacity:10000}") long bucketCapacity) {
+        this.bucketMillis = bucketSeconds * 1000;
+        this.bucketCapacity = bucketCapacity;
+        this.revoked = Caffeine.newBuilder()
+                .expireAfter(new ExpireAtTokenExpiration<Date>(expiration -> expiration))
+                .build();
+    }
+
+    /**
+     * @return {@code false} when the token was already revoked, so a rotated token can only be used once
+     */
+    public boolean revoke(Claims claims) {
+        if (claims.getId() == null || claims.getExpiration() == null) {
+            return false;
+        }
+        return revoke(claims.getId(), claims.getExpiration());
+    }
+
+    public void revokeSession(TokenSession session) {
+        revoke(SESSION_PREFIX + session.id(), session.expiresAt());
+    }
+
+    public boolean isRevoked(Claims claims) {
+        if (claims.getId() != null && claims.getExpiration() != null && isRevoked(claims.getId(), claims.getExpiration())) {
+            return true;
+        }
+        return TokenSession.from(claims)
+                .map(session -> isRevoked(SESSION_PREFIX + session.id(), session.expiresAt()))
+                .orElse(false);
+    }
+
+    private boolean revoke(String id, Date expiresAt) {
+        buckets.headMap(bucketOf(System.currentTimeMillis())).clear();
+        buckets.computeIfAbsent(bucketOf(expiresAt.getTime()), bucket -> new BloomFilter(bucketCapacity, 0.001))
+                .add(id);
+        return revoked.asMap().putIfAbsent(id, expiresAt) == null;
+    }
+
+    private boolean isRevoked(String id, Date expiresAt) {
+        BloomFilter bucket = buckets.get(bucketOf(expiresAt.getTime()));
+        return bucket != null && bucket.mightContain(id) && revoked.getIfPresent(id) != null;
+    }
+
+    private long bucketOf(long epochMillis) {
+        return epochMillis / bucketMillis;
+    }
+}
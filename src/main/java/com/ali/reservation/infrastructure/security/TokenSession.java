@@ -0,0 +1,32 @@
+package com.ali.reservation.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Login session shared by every access and refresh token issued from one login. Rotation keeps the session,
+ * so {@code expiresAt} is an absolute bound on how long refreshing can continue, and revoking the session id
+ * ends all of its tokens at once.
+ */
+public record TokenSession(String id, Date expiresAt) {
+
+    static final String ID_CLAIM = "sid";
+    static final String EXPIRES_AT_CLAIM = "sexp";
+
+    public static Optional<TokenSession> from(Claims claims) {
+        String id = claims.get(ID_CLAIM, String.class);
+        Number expiresAt = claims.get(EXPIRES_AT_CLAIM, Number.class);
+        if (id == null || expiresAt == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new TokenSession(id, new Date(expiresAt.longValue())));
+    }
+
+    void writeTo(Map<String, Object> claims) {
+        claims.put(ID_CLAIM, id);
+        claims.put(EXPIRES_AT_CLAIM, expiresAt.getTime());
+    }
+}
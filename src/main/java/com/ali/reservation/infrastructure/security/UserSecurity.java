@@ -9,21 +9,26 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.List;
+import java.util.Set;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class UserSecurity implements UserDetails {
+    public static final String ROLE_PREFIX = "ROLE_";
+    public static final String ADMIN = "ADMIN";
+
     private Long id;
     private String username;
     private String password;
     private String email;
+    @Builder.Default
+    private Set<String> roles = Set.of();
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of();
+        return roles.stream().map(role -> new SimpleGrantedAuthority(ROLE_PREFIX + role)).toList();
     }
 
     @Override
@@ -0,0 +1,59 @@
+package com.ali.reservation.presentation;
+
+import com.ali.reservation.infrastructure.inventory.SlotContention;
+import com.ali.reservation.infrastructure.inventory.SlotReservationCoordinator;
+import com.ali.reservation.presentation.dto.reqeust.SlotScheduleRequest;
+import com.ali.reservation.presentation.dto.response.SlotImportStatusResponse;
+import com.ali.reservation.presentation.dto.response.SlotScheduleResponse;
+import com.ali.reservation.usecase.SlotImportService;
+import com.ali.reservation.usecase.SlotScheduleService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/admin/slots")
+@RequiredArgsConstructor
+public class AdminSlotController {
+
+    private final SlotScheduleService slotScheduleService;
+    private final SlotImportService slotImportService;
+    private final SlotReservationCoordinator slotReservationCoordinator;
+
+    @PostMapping("/schedule")
+    public ResponseEntity<SlotScheduleResponse> publishSchedule(@RequestBody @Valid SlotScheduleRequest request) {
+        return ResponseEntity.ok(slotScheduleService.publishSchedule(request));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<SlotImportStatusResponse> importSlots(@RequestPart("file") MultipartFile file) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(slotImportService.startImport(file));
+    }
+
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<SlotImportStatusResponse> getImportStatus(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(slotImportService.getStatus(jobId));
+    }
+
+    @GetMapping("/contention")
+    public ResponseEntity<List<SlotContention>> getContention(
+            @RequestParam(name = "limit", defaultValue = "20") @Min(1) @Max(1000) int limit) {
+        return ResponseEntity.ok(slotReservationCoordinator.topContended(limit));
+    }
+}
@@ -1,14 +1,17 @@
 package com.ali.reservation.presentation;
 
 import com.ali.reservation.presentation.dto.reqeust.LoginRequest;
+import com.ali.reservation.presentation.dto.reqeust.RefreshTokenRequest;
 import com.ali.reservation.presentation.dto.response.AuthResponse;
 import com.ali.reservation.presentation.dto.response.RegisterRequest;
 import com.ali.reservation.usecase.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -31,5 +34,14 @@ public class AuthController {
         return ResponseEntity.ok(register);
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody @Valid RefreshTokenRequest request) {
+        return ResponseEntity.ok(authService.refresh(request));
+    }
 
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        authService.logout(authorization);
+        return ResponseEntity.noContent().build();
+    }
 }
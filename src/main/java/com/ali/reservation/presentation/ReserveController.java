@@ -1,28 +1,57 @@
 package com.ali.reservation.presentation;
 
+import com.ali.reservation.infrastructure.persistence.projection.SlotWindowView;
+import com.ali.reservation.presentation.dto.reqeust.BatchReserveSlotRequest;
 import com.ali.reservation.presentation.dto.reqeust.ReserveSlotRequest;
 import com.ali.reservation.presentation.dto.response.ReservationResponse;
+import com.ali.reservation.presentation.dto.response.ReservationTicketResponse;
+import com.ali.reservation.presentation.dto.response.SlotSliceResponse;
+import com.ali.reservation.usecase.ReservationPipeline;
 import com.ali.reservation.usecase.ReserveTicketService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/v1/reservations")
 @RequiredArgsConstructor
 public class ReserveController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int FLUSH_EVERY_ROWS = 500;
+
     private final ReserveTicketService reserveTicketService;
+    private final ReservationPipeline reservationPipeline;
+    private final ObjectMapper objectMapper;
+
+    @Value("${reservation.export.timeout:PT2M}")
+    private Duration exportTimeout;
 
 
     @GetMapping("/slots")
@@ -41,15 +70,89 @@ public class ReserveController {
         return new ResponseEntity<>(reserveTicketService.getAvailableSlots(from, pageable), HttpStatus.OK);
     }
 
+    @GetMapping("/slots/cursor")
+    public ResponseEntity<SlotSliceResponse> getAvailableSlotsAfter(
+            @Parameter(
+                    name = "from",
+                    description = "Start datetime in ISO format, required for the first page: `yyyy-MM-dd'T'HH:mm:ss`",
+                    schema = @Schema(type = "string", format = "date-time", example = "2025-12-29T09:00:00")
+            )
+            @RequestParam(name = "from", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+            LocalDateTime from,
+            @Parameter(description = "Opaque cursor returned as `nextCursor` by the previous page")
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") @Min(1) @Max(100) int size) {
+
+        return ResponseEntity.ok(reserveTicketService.getAvailableSlotsAfter(from, cursor, size));
+    }
+
+    @GetMapping(value = "/slots/export", produces = "application/x-ndjson")
+    public WebAsyncTask<Void> exportAvailableSlots(
+            @RequestParam(name = "from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            HttpServletResponse response) {
+
+        reserveTicketService.validateExportWindow(from, to);
+        ObjectWriter writer = objectMapper.writerFor(SlotWindowView.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        response.setContentType(APPLICATION_NDJSON.toString());
+
+        // Timeout applies to this export only; other async requests keep the container default
+        return new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+            var buffered = new BufferedOutputStream(response.getOutputStream());
+            var rows = new int[1];
+            reserveTicketService.exportAvailableSlots(from, to, slot -> {
+                writeLine(writer, buffered, slot);
+                if (++rows[0] % FLUSH_EVERY_ROWS == 1) {
+                    flush(buffered);
+                }
+            });
+            buffered.flush();
+            return null;
+        });
+    }
+
     @PostMapping
-    public ResponseEntity<Void> reserveSlot(@RequestBody ReserveSlotRequest slotRequest) {
+    public ResponseEntity<ReservationTicketResponse> reserveSlot(@RequestBody ReserveSlotRequest slotRequest) {
+        if (reservationPipeline.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(reservationPipeline.submit(slotRequest));
+        }
         reserveTicketService.reserveSlot(slotRequest);
         return ResponseEntity.ok().build();
     }
 
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<ReservationTicketResponse> getTicket(@PathVariable UUID ticketId) {
+        return ResponseEntity.ok(reservationPipeline.getTicket(ticketId));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<Void> reserveSlots(@RequestBody @Valid BatchReserveSlotRequest batchRequest) {
+        reserveTicketService.reserveSlots(batchRequest);
+        return ResponseEntity.ok().build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> cancelReservation(@PathVariable Long id) {
         reserveTicketService.cancelReservation(id);
         return ResponseEntity.ok().build();
     }
+
+    private static void writeLine(ObjectWriter writer, OutputStream outputStream, SlotWindowView slot) {
+        try {
+            writer.writeValue(outputStream, slot);
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void flush(OutputStream outputStream) {
+        try {
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,16 @@
+package com.ali.reservation.presentation.dto.reqeust;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class BatchReserveSlotRequest {
+    @NotEmpty
+    @Size(max = 100, message = "At most 100 slots can be reserved at once")
+    private List<@NotNull LocalDateTime> slotStartTimes;
+}
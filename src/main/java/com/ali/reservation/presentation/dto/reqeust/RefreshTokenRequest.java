@@ -0,0 +1,10 @@
+package com.ali.reservation.presentation.dto.reqeust;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class RefreshTokenRequest {
+    @NotBlank(message = "Refresh token is required")
+    private String refreshToken;
+}
@@ -0,0 +1,36 @@
+package com.ali.reservation.presentation.dto.reqeust;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+@Data
+public class SlotScheduleRequest {
+    @NotNull
+    private LocalDate fromDate;
+
+    @NotNull
+    private LocalDate toDate;
+
+    @NotEmpty
+    private Set<DayOfWeek> daysOfWeek;
+
+    @NotNull
+    private LocalTime openingTime;
+
+    @NotNull
+    private LocalTime closingTime;
+
+    @Min(5)
+    @Max(1440)
+    private int slotMinutes;
+
+    private Set<LocalDate> excludedDates = Set.of();
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 public class AuthResponse {
     private static final String BEARER = "Bearer";
     private String token;
+    private String refreshToken;
     private String type = BEARER;
     private UserInfo user;
 
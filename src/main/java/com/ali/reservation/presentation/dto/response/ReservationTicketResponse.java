@@ -0,0 +1,21 @@
+package com.ali.reservation.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationTicketResponse {
+    private UUID ticketId;
+    private LocalDateTime slotStartTime;
+    private String status;
+    private Long slotId;
+    private String reason;
+    private LocalDateTime createdAt;
+    private LocalDateTime settledAt;
+}
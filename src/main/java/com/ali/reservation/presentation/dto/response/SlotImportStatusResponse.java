@@ -0,0 +1,24 @@
+package com.ali.reservation.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotImportStatusResponse {
+    private UUID jobId;
+    private String fileName;
+    private String status;
+    private long rowsRead;
+    private long insertedSlots;
+    private long duplicateSlots;
+    private long invalidRows;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+}
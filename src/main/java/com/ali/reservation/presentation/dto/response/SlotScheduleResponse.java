@@ -0,0 +1,14 @@
+package com.ali.reservation.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotScheduleResponse {
+    private long generatedSlots;
+    private long insertedSlots;
+    private long skippedExistingSlots;
+}
@@ -0,0 +1,16 @@
+package com.ali.reservation.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotSliceResponse {
+    private List<ReservationResponse> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
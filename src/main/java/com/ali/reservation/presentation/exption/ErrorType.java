@@ -20,7 +20,8 @@ public enum ErrorType {
 
     ENTITY_NOT_FOUND(402, "Entity not found", HttpStatus.NOT_FOUND),
 
-    INTERNAL_ERROR(501, "An unexpected error occurred", HttpStatus.INTERNAL_SERVER_ERROR);
+    INTERNAL_ERROR(501, "An unexpected error occurred", HttpStatus.INTERNAL_SERVER_ERROR),
+    SERVICE_UNAVAILABLE(503, "Service is busy, please retry later", HttpStatus.SERVICE_UNAVAILABLE);
 
     private final int errorCode;
     private final String defaultMessage;
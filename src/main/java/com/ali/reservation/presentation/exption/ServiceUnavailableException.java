@@ -0,0 +1,13 @@
+package com.ali.reservation.presentation.exption;
+
+import lombok.Getter;
+
+@Getter
+public class ServiceUnavailableException extends ApplicationException {
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String details, long retryAfterSeconds) {
+        super(ErrorType.SERVICE_UNAVAILABLE, details);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
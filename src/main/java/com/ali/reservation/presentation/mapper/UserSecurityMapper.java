@@ -3,8 +3,10 @@ package com.ali.reservation.presentation.mapper;
 import com.ali.reservation.infrastructure.persistence.entity.UserEntity;
 import com.ali.reservation.infrastructure.security.UserSecurity;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface UserSecurityMapper {
+    @Mapping(target = "roles", ignore = true)
     UserSecurity toUserSecurity(UserEntity userEntity);
-}
\ No newline at end of file
+}
@@ -1,23 +1,30 @@
 package com.ali.reservation.usecase;
 
+import com.ali.reservation.infrastructure.bloom.RegisteredIdentityFilter;
 import com.ali.reservation.infrastructure.persistence.entity.UserEntity;
 import com.ali.reservation.infrastructure.persistence.repository.UserRepository;
+import com.ali.reservation.infrastructure.security.CustomUserDetailsService;
 import com.ali.reservation.infrastructure.security.JwtService;
+import com.ali.reservation.infrastructure.security.TokenDenyList;
+import com.ali.reservation.infrastructure.security.TokenSession;
 import com.ali.reservation.infrastructure.security.UserSecurity;
 import com.ali.reservation.presentation.dto.reqeust.LoginRequest;
+import com.ali.reservation.presentation.dto.reqeust.RefreshTokenRequest;
 import com.ali.reservation.presentation.dto.response.AuthResponse;
 import com.ali.reservation.presentation.dto.response.RegisterRequest;
 import com.ali.reservation.presentation.exption.ApplicationException;
 import com.ali.reservation.presentation.mapper.UserSecurityMapper;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AccountStatusException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import static com.ali.reservation.presentation.exption.ErrorType.*;
 
@@ -31,29 +38,31 @@ public class AuthService {
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
     private final UserSecurityMapper mapper;
+    private final TokenDenyList tokenDenyList;
+    private final RegisteredIdentityFilter registeredIdentityFilter;
+    private final CustomUserDetailsService userDetailsService;
+    private final UserAccountWriter userAccountWriter;
 
 
-    @Transactional
     public AuthResponse register(RegisterRequest request) {
         log.info("Attempting to register user with username: {}", request.getUsername());
 
-        if (userRepository.existsByUsernameOrEmail(request.getUsername(), request.getEmail())) {
+        if (!registeredIdentityFilter.isDefinitelyNew(request.getUsername(), request.getEmail())
+                && userRepository.existsByUsernameOrEmail(request.getUsername(), request.getEmail())) {
             throw new ApplicationException(DUPLICATE_ERROR, "Username or email already exists");
         }
 
-        UserEntity user = UserEntity.builder()
+        // hashed before the transaction opens, so waiting for a hashing worker does not hold a connection
+        UserEntity savedUser = userAccountWriter.create(UserEntity.builder()
                 .username(request.getUsername())
                 .email(request.getEmail())
                 .password(passwordEncoder.encode(request.getPassword()))
-                .build();
-
-        UserEntity savedUser = userRepository.save(user);
+                .build());
+        registeredIdentityFilter.add(savedUser.getUsername(), savedUser.getEmail());
 
         log.info("User registered successfully with ID: {}", savedUser.getId());
 
-        String token = jwtService.generateToken(mapper.toUserSecurity(savedUser));
-
-        return buildAuthResponse(token, savedUser);
+        return buildAuthResponse(mapper.toUserSecurity(savedUser), jwtService.startSession());
     }
 
     public AuthResponse login(LoginRequest request) {
@@ -68,14 +77,10 @@ public class AuthService {
             );
 
             UserSecurity userSecurity = (UserSecurity) authentication.getPrincipal();
-            String token = jwtService.generateToken(userSecurity);
 
             log.info("User logged in successfully: {}", request.getUsername());
 
-            UserEntity userEntity = userRepository.findByUsername(request.getUsername())
-                    .orElseThrow(() -> new ApplicationException(USER_NOT_FOUND, "User not found"));
-
-            return buildAuthResponse(token, userEntity);
+            return buildAuthResponse(userSecurity, jwtService.startSession());
 
         } catch (BadCredentialsException e) {
             log.warn("Failed login attempt for username: {}", request.getUsername());
@@ -83,9 +88,46 @@ public class AuthService {
         }
     }
 
-    private AuthResponse buildAuthResponse(String token, UserEntity user) {
+    public void logout(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            throw new ApplicationException(TOKEN_INVALID, "Bearer token is required");
+        }
+        Claims claims = jwtService.verify(authorization.substring(7))
+                .orElseThrow(() -> new ApplicationException(TOKEN_INVALID));
+        tokenDenyList.revoke(claims);
+        TokenSession.from(claims).ifPresent(tokenDenyList::revokeSession);
+        log.info("Session ended for user: {}", claims.getSubject());
+    }
+
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        Claims claims = jwtService.verify(request.getRefreshToken())
+                .filter(jwtService::isRefreshToken)
+                .orElseThrow(() -> new ApplicationException(TOKEN_INVALID, "Invalid refresh token"));
+
+        TokenSession session = TokenSession.from(claims)
+                .filter(ignored -> !tokenDenyList.isRevoked(claims))
+                .orElseThrow(() -> new ApplicationException(TOKEN_INVALID, "Session has ended"));
+
+        if (!tokenDenyList.revoke(claims)) {
+            log.warn("Reuse of a rotated refresh token for user: {}, ending the session", claims.getSubject());
+            tokenDenyList.revokeSession(session);
+            throw new ApplicationException(TOKEN_INVALID, "Refresh token was already used");
+        }
+
+        UserSecurity user;
+        try {
+            user = userDetailsService.loadCurrentUser(jwtService.toUserSecurity(claims).getId());
+        } catch (UsernameNotFoundException | AccountStatusException e) {
+            tokenDenyList.revokeSession(session);
+            throw new ApplicationException(TOKEN_INVALID, "User is no longer active");
+        }
+        return buildAuthResponse(user, session);
+    }
+
+    private AuthResponse buildAuthResponse(UserSecurity user, TokenSession session) {
         var response = new AuthResponse();
-        response.setToken(token);
+        response.setToken(jwtService.generateToken(user, session));
+        response.setRefreshToken(jwtService.generateRefreshToken(user, session));
 
         AuthResponse.UserInfo userInfo = new AuthResponse.UserInfo();
         userInfo.setId(user.getId());
@@ -0,0 +1,50 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.infrastructure.inventory.SlotInventory;
+import com.ali.reservation.infrastructure.persistence.repository.ReservationRepository;
+import com.ali.reservation.usecase.event.SlotAvailabilityChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+class ReservationBatchWriter {
+
+    private final ReservationRepository reservationRepository;
+    private final SlotInventory slotInventory;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Claims every ticket's slot in one transaction, so the whole batch shares a single commit.
+     *
+     * @return claimed slot id per ticket; tickets whose slot was taken or does not exist are absent
+     */
+    @Transactional
+    public Map<ReservationTicket, Long> commit(Collection<ReservationTicket> tickets) {
+        LocalDateTime reservedAt = LocalDateTime.now();
+        Map<ReservationTicket, Long> claimed = new IdentityHashMap<>();
+        List<LocalDateTime> startTimes = new ArrayList<>();
+        for (ReservationTicket ticket : tickets) {
+            reservationRepository.claimSlotByStartTime(ticket.userId(), ticket.slotStartTime(), reservedAt)
+                    .ifPresent(slotId -> {
+                        claimed.put(ticket, slotId);
+                        startTimes.add(ticket.slotStartTime());
+                    });
+        }
+
+        if (!startTimes.isEmpty()) {
+            slotInventory.reserveAfterCommit(startTimes);
+            eventPublisher.publishEvent(SlotAvailabilityChangedEvent.reserved(startTimes));
+        }
+        return claimed;
+    }
+}
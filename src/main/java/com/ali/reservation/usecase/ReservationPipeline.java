@@ -0,0 +1,168 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.presentation.dto.reqeust.ReserveSlotRequest;
+import com.ali.reservation.presentation.dto.response.ReservationTicketResponse;
+import com.ali.reservation.presentation.exption.EntityNotFountException;
+import com.ali.reservation.presentation.exption.ServiceUnavailableException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.ali.reservation.infrastructure.security.SecurityUtils.getCurrentUserId;
+import static com.ali.reservation.presentation.exption.ErrorType.ENTITY_NOT_FOUND;
+
+/**
+ * Asynchronous reserve path: requests are queued and answered with a ticket, and a single writer thread drains the
+ * queue in batches. Contenders for the same slot within a batch are settled in memory (first come wins) and the
+ * winners are committed together, so a burst on a few hundred slots costs a handful of commits.
+ */
+@Service
+@Slf4j
+public class ReservationPipeline {
+
+    private static final String SLOT_TAKEN = "Slot is already reserved";
+    private static final String SLOT_UNAVAILABLE = "Slot is already reserved or does not exist";
+    private static final String COMMIT_FAILED = "Could not commit the reservation, please retry";
+
+    @Getter
+    private final boolean enabled;
+    private final ReservationBatchWriter batchWriter;
+    private final BlockingQueue<ReservationTicket> queue;
+    private final Cache<UUID, ReservationTicket> tickets;
+    private final int batchSize;
+    private final long retryAfterSeconds;
+    private final Timer commitTimer;
+    private final DistributionSummary batchSizes;
+
+    private volatile boolean running = true;
+    private Thread writer;
+
+    public ReservationPipeline(ReservationBatchWriter batchWriter, MeterRegistry meterRegistry,
+                               @Value("${reservation.pipeline.enabled:false}") boolean enabled,
+                               @Value("${reservation.pipeline.queue-capacity:10000}") int queueCapacity,
+                               @Value("${reservation.pipeline.batch-size:200}") int batchSize,
+                               @Value("${reservation.pipeline.ticket-retention:PT1H}") Duration ticketRetention,
+                               @Value("${reservation.pipeline.max-tickets:100000}") long maxTickets,
+                               @Value("${reservation.pipeline.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.batchWriter = batchWriter;
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.tickets = Caffeine.newBuilder().maximumSize(maxTickets).expireAfterWrite(ticketRetention).build();
+        this.batchSize = batchSize;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.commitTimer = Timer.builder("reservation.pipeline.commit")
+                .description("Time to commit one batch of settled reservations")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("reservation.pipeline.batch.size")
+                .description("Tickets drained from the queue per batch")
+                .register(meterRegistry);
+        Gauge.builder("reservation.pipeline.queue", queue, BlockingQueue::size)
+                .description("Reservation tickets waiting for the writer")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            writer = Thread.ofPlatform().name("reservation-pipeline").daemon().start(this::drain);
+            log.info("Reservation pipeline started (batch size {})", batchSize);
+        }
+    }
+
+    public ReservationTicketResponse submit(ReserveSlotRequest request) {
+        ReservationTicket ticket = new ReservationTicket(getCurrentUserId(), request.getSlotStartTime());
+        tickets.put(ticket.id(), ticket);
+        if (!queue.offer(ticket)) {
+            tickets.invalidate(ticket.id());
+            throw new ServiceUnavailableException("Reservation queue is full", retryAfterSeconds);
+        }
+        return ticket.toResponse();
+    }
+
+    public ReservationTicketResponse getTicket(UUID ticketId) {
+        ReservationTicket ticket = tickets.getIfPresent(ticketId);
+        if (ticket == null || !ticket.userId().equals(getCurrentUserId())) {
+            throw new EntityNotFountException(ENTITY_NOT_FOUND);
+        }
+        return ticket.toResponse();
+    }
+
+    private void drain() {
+        List<ReservationTicket> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ReservationTicket first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                batchSizes.record(batch.size());
+                settle(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void settle(List<ReservationTicket> batch) {
+        Map<LocalDateTime, ReservationTicket> winners = new LinkedHashMap<>();
+        for (ReservationTicket ticket : batch) {
+            if (winners.putIfAbsent(ticket.slotStartTime(), ticket) != null) {
+                ticket.rejected(SLOT_TAKEN);
+            }
+        }
+
+        Map<ReservationTicket, Long> claimed;
+        try {
+            claimed = commitTimer.record(() -> batchWriter.commit(winners.values()));
+        } catch (RuntimeException e) {
+            log.error("Reservation batch of {} tickets failed to commit", winners.size(), e);
+            winners.values().forEach(ticket -> ticket.failed(COMMIT_FAILED));
+            return;
+        }
+
+        for (ReservationTicket ticket : winners.values()) {
+            Long slotId = claimed.get(ticket);
+            if (slotId != null) {
+                ticket.reserved(slotId);
+            } else {
+                ticket.rejected(SLOT_UNAVAILABLE);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+            if (writer.isAlive()) {
+                log.warn("Reservation pipeline did not drain before shutdown");
+            }
+        }
+    }
+}
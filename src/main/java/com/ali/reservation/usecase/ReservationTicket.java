@@ -0,0 +1,61 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.presentation.dto.response.ReservationTicketResponse;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+class ReservationTicket {
+
+    enum Status {PENDING, RESERVED, REJECTED, FAILED}
+
+    private final UUID id = UUID.randomUUID();
+    private final Long userId;
+    private final LocalDateTime slotStartTime;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private volatile Status status = Status.PENDING;
+    private volatile Long slotId;
+    private volatile String reason;
+    private volatile LocalDateTime settledAt;
+
+    ReservationTicket(Long userId, LocalDateTime slotStartTime) {
+        this.userId = userId;
+        this.slotStartTime = slotStartTime;
+    }
+
+    UUID id() {
+        return id;
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    LocalDateTime slotStartTime() {
+        return slotStartTime;
+    }
+
+    void reserved(Long slotId) {
+        this.slotId = slotId;
+        settle(Status.RESERVED);
+    }
+
+    void rejected(String reason) {
+        this.reason = reason;
+        settle(Status.REJECTED);
+    }
+
+    void failed(String reason) {
+        this.reason = reason;
+        settle(Status.FAILED);
+    }
+
+    private void settle(Status status) {
+        settledAt = LocalDateTime.now();
+        this.status = status;
+    }
+
+    ReservationTicketResponse toResponse() {
+        return new ReservationTicketResponse(id, slotStartTime, status.name(), slotId, reason, createdAt, settledAt);
+    }
+}
@@ -0,0 +1,101 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.infrastructure.inventory.SlotInventory;
+import com.ali.reservation.presentation.exption.ApplicationException;
+import com.ali.reservation.presentation.exption.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.ali.reservation.presentation.exption.ErrorType.CONFLICT;
+
+/**
+ * Persists reservations the inventory already acknowledged. Queued writes are lost if the process dies, so the queue
+ * is bounded: once {@code queue-capacity} writes are waiting, new reservations are shed with 503 instead of being
+ * acknowledged.
+ */
+@Component
+@Slf4j
+public class ReservationWriteBehind {
+
+    private final SlotReservationWriter slotReservationWriter;
+    private final SlotInventory slotInventory;
+    private final long retryAfterSeconds;
+    private final ThreadPoolExecutor writer;
+    private final Counter shed;
+    private final Counter failed;
+
+    public ReservationWriteBehind(SlotReservationWriter slotReservationWriter, SlotInventory slotInventory,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${reservation.inventory.write-behind.queue-capacity:1000}") int queueCapacity,
+                                  @Value("${reservation.inventory.write-behind.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.slotReservationWriter = slotReservationWriter;
+        this.slotInventory = slotInventory;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.writer = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "reservation-write-behind");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.shed = Counter.builder("reservation.write-behind.shed")
+                .description("Reservations rejected with 503 because the write-behind queue was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("reservation.write-behind.failed")
+                .description("Acknowledged reservations the database did not accept")
+                .register(meterRegistry);
+        Gauge.builder("reservation.write-behind.queue", writer.getQueue(), BlockingQueue::size)
+                .description("Acknowledged reservations waiting to be written")
+                .register(meterRegistry);
+    }
+
+    public void submit(Long userId, Long slotId, LocalDateTime slotStartTime) {
+        try {
+            writer.execute(() -> write(userId, slotId, slotStartTime));
+        } catch (RejectedExecutionException e) {
+            shed.increment();
+            slotInventory.release(slotStartTime);
+            throw new ServiceUnavailableException("Reservation write queue is full", retryAfterSeconds);
+        }
+    }
+
+    private void write(Long userId, Long slotId, LocalDateTime slotStartTime) {
+        try {
+            slotReservationWriter.reserveById(userId, slotId, slotStartTime);
+            slotInventory.settle(slotStartTime);
+        } catch (ApplicationException e) {
+            failed.increment();
+            log.error("Write-behind reservation of slot {} for user {} rejected by the database: {}",
+                    slotStartTime, userId, e.getMessage());
+            if (e.getErrorType() == CONFLICT) {
+                slotInventory.settle(slotStartTime);
+            } else {
+                slotInventory.release(slotStartTime);
+            }
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.error("Write-behind reservation of slot {} for user {} failed", slotStartTime, userId, e);
+            slotInventory.release(slotStartTime);
+        }
+    }
+
+    @PreDestroy
+    public void drain() throws InterruptedException {
+        writer.shutdown();
+        if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Write-behind queue did not drain before shutdown, {} acknowledged reservations were not written",
+                    writer.getQueue().size());
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.ali.reservation.usecase;
+
+public enum ReserveStrategy {
+    JPA,
+    CONDITIONAL
+}
@@ -1,31 +1,49 @@
 package com.ali.reservation.usecase;
 
+import com.ali.reservation.infrastructure.cache.SlotBucketCache;
+import com.ali.reservation.infrastructure.concurrency.ConcurrencyLimited;
+import com.ali.reservation.infrastructure.concurrency.TrafficClass;
+import com.ali.reservation.infrastructure.inventory.ConsistencyMode;
+import com.ali.reservation.infrastructure.inventory.SlotInventory;
+import com.ali.reservation.infrastructure.inventory.SlotReservationCoordinator;
 import com.ali.reservation.infrastructure.persistence.entity.AvailableSlotEntity;
 import com.ali.reservation.infrastructure.persistence.entity.ReservationEntity;
+import com.ali.reservation.infrastructure.persistence.projection.SlotWindowView;
 import com.ali.reservation.infrastructure.persistence.repository.AvailableSlotRepository;
 import com.ali.reservation.infrastructure.persistence.repository.ReservationRepository;
+import com.ali.reservation.infrastructure.readmodel.AvailabilityIndex;
+import com.ali.reservation.infrastructure.retry.JitteredRetrier;
+import com.ali.reservation.presentation.dto.reqeust.BatchReserveSlotRequest;
 import com.ali.reservation.presentation.dto.reqeust.ReserveSlotRequest;
 import com.ali.reservation.presentation.dto.response.ReservationResponse;
+import com.ali.reservation.presentation.dto.response.SlotSliceResponse;
 import com.ali.reservation.presentation.exption.ApplicationException;
 import com.ali.reservation.presentation.exption.EntityNotFountException;
 import com.ali.reservation.presentation.exption.TimeNotValidException;
 import com.ali.reservation.presentation.mapper.ReservationMapper;
+import com.ali.reservation.usecase.event.SlotAvailabilityChangedEvent;
 import jakarta.persistence.OptimisticLockException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static com.ali.reservation.infrastructure.security.SecurityUtils.*;
 import static com.ali.reservation.presentation.exption.ErrorType.*;
@@ -37,37 +55,167 @@ import static java.time.LocalDateTime.*;
 @Slf4j
 public class ReserveTicketService {
 
+    private static final Set<Class<? extends RuntimeException>> OPTIMISTIC_LOCK_FAILURES =
+            Set.of(ObjectOptimisticLockingFailureException.class, OptimisticLockException.class);
+
     private final AvailableSlotRepository repository;
     private final ReservationRepository reservationRepository;
     private final ReservationMapper reservationMapper;
+    private final SlotReservationWriter slotReservationWriter;
+    private final ReservationWriteBehind reservationWriteBehind;
+    private final SlotInventory slotInventory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SlotBucketCache slotBucketCache;
+    private final AvailabilityIndex availabilityIndex;
+    private final SlotReservationCoordinator slotReservationCoordinator;
+    private final JitteredRetrier retrier;
+
+    @Value("${reservation.export.max-window:P31D}")
+    private Duration maxExportWindow;
 
-    @Cacheable(cacheNames = "slots", key = "{#from, #pageable.pageNumber, #pageable.pageSize}")
+    @ConcurrencyLimited(TrafficClass.READ)
+    @Cacheable(cacheNames = "slots", key = "{#from, #pageable.pageNumber, #pageable.pageSize}",
+            condition = "!@slotBucketCache.enabled and !@availabilityIndex.serving")
     public Page<ReservationResponse> getAvailableSlots(LocalDateTime from, Pageable pageable) {
         log.info("Executing getAvailableSlots — not from cache");
 
+        validateFrom(from);
+        if (availabilityIndex.isServing() && pageable.getSort().isUnsorted()) {
+            return availabilityIndex.findAvailable(from, pageable);
+        }
+        if (slotBucketCache.isEnabled()) {
+            return slotBucketCache.getPage(from, pageable, this::findAvailableSlots);
+        }
+        return findAvailableSlots(from, pageable);
+    }
+
+    private Page<ReservationResponse> findAvailableSlots(LocalDateTime from, Pageable pageable) {
+        return repository.findAvailableSlots(from, pageable).map(reservationMapper::mapTo);
+    }
+
+    @ConcurrencyLimited(TrafficClass.READ)
+    public SlotSliceResponse getAvailableSlotsAfter(LocalDateTime from, String cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<AvailableSlotEntity> slots;
+        if (cursor == null) {
+            validateFrom(from);
+            slots = repository.findAvailableSlotsFrom(from, limit);
+        } else {
+            SlotCursor after = SlotCursor.decode(cursor);
+            slots = repository.findAvailableSlotsAfter(after.startTime(), after.id(), limit);
+        }
+
+        boolean hasNext = slots.size() > size;
+        List<AvailableSlotEntity> content = hasNext ? slots.subList(0, size) : slots;
+        String nextCursor = hasNext ? cursorOf(content.get(content.size() - 1)).encode() : null;
+        return new SlotSliceResponse(content.stream().map(reservationMapper::mapTo).toList(), nextCursor, hasNext);
+    }
+
+    public void validateExportWindow(LocalDateTime from, LocalDateTime to) {
+        validateFrom(from);
+        if (to == null || !to.isAfter(from)) {
+            throw new TimeNotValidException(VALIDATION_ERROR, "End of the window must be after its start.");
+        }
+        if (to.isAfter(from.plus(maxExportWindow))) {
+            throw new TimeNotValidException(VALIDATION_ERROR,
+                    "Export window must not exceed %d days.".formatted(maxExportWindow.toDays()));
+        }
+    }
+
+    public void exportAvailableSlots(LocalDateTime from, LocalDateTime to, Consumer<SlotWindowView> sink) {
+        try (Stream<SlotWindowView> slots = repository.streamAvailableSlots(from, to)) {
+            slots.forEach(sink);
+        }
+    }
+
+    private SlotCursor cursorOf(AvailableSlotEntity slot) {
+        return new SlotCursor(slot.getStartTime(), slot.getId());
+    }
+
+    private void validateFrom(LocalDateTime from) {
         Optional.ofNullable(from)
                 .filter(time -> time.isAfter(now()))
                 .orElseThrow(() -> new TimeNotValidException(VALIDATION_ERROR, "Time must be in the present or future."));
-        return repository.findAvailableSlots(from, pageable).map(reservationMapper::mapTo);
     }
 
 
-    @CacheEvict(cacheNames = "slots", allEntries = true)
-    @Retryable(
-            retryFor = {ObjectOptimisticLockingFailureException.class, OptimisticLockException.class},
-            notRecoverable = {EntityNotFountException.class},
-            maxAttempts = 2,
-            backoff = @Backoff(delay = 200)
-    )
-    @Transactional
+    @ConcurrencyLimited(TrafficClass.WRITE)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void reserveSlot(ReserveSlotRequest reservationRequest) {
-        AvailableSlotEntity availableSlotEntity = markSlotToReserved(reservationRequest.getSlotStartTime());
-        repository.saveAndFlush(availableSlotEntity);
-        reservationRepository.save(ReservationEntity.of(getCurrentUserId(), availableSlotEntity));
+        Long userId = getCurrentUserId();
+        LocalDateTime slotStartTime = reservationRequest.getSlotStartTime();
+
+        // Optimistic-lock exhaustion is turned into CONFLICT only here, outside the coordinator, which would otherwise
+        // remember the slot as claimed although nobody reserved it
+        try {
+            if (slotReservationCoordinator.isEnabled()) {
+                slotReservationCoordinator.reserve(slotStartTime, () -> {
+                    reserveWithRetry(userId, slotStartTime);
+                    return null;
+                });
+            } else {
+                reserveWithRetry(userId, slotStartTime);
+            }
+        } catch (ObjectOptimisticLockingFailureException | OptimisticLockException e) {
+            log.warn("Failed to reserve slot {}: {}", slotStartTime, e.getMessage());
+            throw new ApplicationException(CONFLICT, "Could not reserve slot, it was changed concurrently");
+        }
+    }
+
+    private void reserveWithRetry(Long userId, LocalDateTime slotStartTime) {
+        retrier.execute("reserve", () -> {
+            reserve(userId, slotStartTime);
+            return null;
+        }, OPTIMISTIC_LOCK_FAILURES, () -> repository.isReservedAt(slotStartTime));
+    }
+
+    private void reserve(Long userId, LocalDateTime slotStartTime) {
+        OptionalLong claimedSlotId = slotInventory.isEnabled() ? slotInventory.claim(slotStartTime) : OptionalLong.empty();
+        if (claimedSlotId.isEmpty()) {
+            Long slotId = slotReservationWriter.reserve(userId, slotStartTime);
+            slotInventory.markReserved(slotId, slotStartTime);
+            return;
+        }
+
+        if (slotInventory.getConsistencyMode() == ConsistencyMode.WRITE_BEHIND) {
+            reservationWriteBehind.submit(userId, claimedSlotId.getAsLong(), slotStartTime);
+            return;
+        }
+
+        try {
+            slotReservationWriter.reserveById(userId, claimedSlotId.getAsLong(), slotStartTime);
+            slotInventory.settle(slotStartTime);
+        } catch (ApplicationException e) {
+            if (e.getErrorType() == CONFLICT) {
+                slotInventory.settle(slotStartTime);
+            } else {
+                slotInventory.release(slotStartTime);
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            slotInventory.release(slotStartTime);
+            throw e;
+        }
+    }
+
+
+    @ConcurrencyLimited(TrafficClass.WRITE)
+    @Transactional
+    public void reserveSlots(BatchReserveSlotRequest batchRequest) {
+        Long userId = getCurrentUserId();
+        List<LocalDateTime> slotStartTimes = batchRequest.getSlotStartTimes().stream().distinct().toList();
+
+        List<Long> claimedSlotIds = reservationRepository.claimSlotsByStartTimes(userId, slotStartTimes, now());
+        if (claimedSlotIds.size() != slotStartTimes.size()) {
+            throw new ApplicationException(CONFLICT, "Only %d of %d slots are available"
+                    .formatted(claimedSlotIds.size(), slotStartTimes.size()));
+        }
+        slotInventory.reserveAfterCommit(slotStartTimes);
+        eventPublisher.publishEvent(SlotAvailabilityChangedEvent.reserved(slotStartTimes));
     }
 
 
-    @CacheEvict(cacheNames = "slots", allEntries = true)
+    @ConcurrencyLimited(TrafficClass.WRITE)
     @Transactional
     public void cancelReservation(Long slotId) {
         reservationRepository.findByUserIdAndSlotId(getCurrentUserId(), slotId)
@@ -76,29 +224,12 @@ public class ReserveTicketService {
                 });
     }
 
-    private AvailableSlotEntity markSlotToReserved(LocalDateTime slotStartTime) {
-        return repository.findByStartTime(slotStartTime).map(availableSlot -> {
-            availableSlot.setReserved(true);
-            return availableSlot;
-        }).orElseThrow(() -> new EntityNotFountException(ENTITY_NOT_FOUND));
-    }
-
     private void markToCancel(ReservationEntity reservationEntity) {
         AvailableSlotEntity availableSlotEntity = reservationEntity.getSlot();
         availableSlotEntity.setReserved(false);
         repository.save(availableSlotEntity);
         reservationRepository.delete(reservationEntity);
-    }
-
-    @Recover
-    public void recoverFromOptimisticLock(ObjectOptimisticLockingFailureException ex, ReserveSlotRequest request) {
-        log.error("Failed to reserve slot after retries: {}", request.getSlotStartTime(), ex);
-        throw new ApplicationException(CONFLICT, "Could not reserve slot after retries");
-    }
-
-    @Recover
-    public void recoverFromOptimisticLock(OptimisticLockException ex, ReserveSlotRequest request) {
-        log.error("Failed to reserve slot after retries: {}", request.getSlotStartTime(), ex);
-        throw new ApplicationException(CONFLICT, "Could not reserve slot after retries");
+        slotInventory.releaseAfterCommit(availableSlotEntity.getStartTime());
+        eventPublisher.publishEvent(SlotAvailabilityChangedEvent.released(availableSlotEntity.getStartTime()));
     }
 }
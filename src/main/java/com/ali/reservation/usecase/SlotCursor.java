@@ -0,0 +1,30 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.presentation.exption.ApplicationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static com.ali.reservation.presentation.exption.ErrorType.VALIDATION_ERROR;
+
+record SlotCursor(LocalDateTime startTime, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    String encode() {
+        String raw = startTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SlotCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new SlotCursor(LocalDateTime.parse(raw.substring(0, separator)), Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new ApplicationException(VALIDATION_ERROR, "Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.presentation.dto.response.SlotImportStatusResponse;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+class SlotImportJob {
+
+    enum Status {PENDING, RUNNING, COMPLETED, FAILED}
+
+    private final UUID id = UUID.randomUUID();
+    private final String fileName;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong invalid = new AtomicLong();
+    private volatile Status status = Status.PENDING;
+    private volatile String error;
+    private volatile LocalDateTime finishedAt;
+
+    SlotImportJob(String fileName) {
+        this.fileName = fileName;
+    }
+
+    UUID id() {
+        return id;
+    }
+
+    void running() {
+        status = Status.RUNNING;
+    }
+
+    void completed() {
+        status = Status.COMPLETED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    void failed(String reason) {
+        error = reason;
+        status = Status.FAILED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void invalidRow() {
+        invalid.incrementAndGet();
+    }
+
+    void duplicates(long count) {
+        duplicates.addAndGet(count);
+    }
+
+    void inserted(long count) {
+        inserted.addAndGet(count);
+    }
+
+    SlotImportStatusResponse toResponse() {
+        return new SlotImportStatusResponse(id, fileName, status.name(), rowsRead.get(), inserted.get(),
+                duplicates.get(), invalid.get(), error, createdAt, finishedAt);
+    }
+}
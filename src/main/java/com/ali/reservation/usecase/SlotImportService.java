@@ -0,0 +1,174 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.infrastructure.importer.SlotArchiveReader;
+import com.ali.reservation.infrastructure.persistence.bulk.SlotCopyLoader;
+import com.ali.reservation.infrastructure.persistence.bulk.SlotLoadResult;
+import com.ali.reservation.infrastructure.persistence.projection.SlotWindowView;
+import com.ali.reservation.infrastructure.persistence.repository.AvailableSlotRepository;
+import com.ali.reservation.presentation.dto.response.SlotImportStatusResponse;
+import com.ali.reservation.presentation.exption.ApplicationException;
+import com.ali.reservation.presentation.exption.EntityNotFountException;
+import com.ali.reservation.usecase.event.SlotsAddedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static com.ali.reservation.presentation.exption.ErrorType.ENTITY_NOT_FOUND;
+import static com.ali.reservation.presentation.exption.ErrorType.INTERNAL_ERROR;
+
+/**
+ * Imports partner calendars (CSV rows {@code start_time,end_time}, optionally gzip or ZIP compressed) in the
+ * background. Rows are validated, deduplicated against existing start times in memory and loaded in batches.
+ */
+@Service
+@Slf4j
+public class SlotImportService {
+
+    private final SlotCopyLoader slotCopyLoader;
+    private final AvailableSlotRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final Cache<UUID, SlotImportJob> jobs;
+
+    private final ExecutorService importer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "slot-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SlotImportService(SlotCopyLoader slotCopyLoader, AvailableSlotRepository repository,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${reservation.import.batch-size:1000}") int batchSize,
+                             @Value("${reservation.import.job-retention:P1D}") Duration jobRetention) {
+        this.slotCopyLoader = slotCopyLoader;
+        this.repository = repository;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.jobs = Caffeine.newBuilder().expireAfterWrite(jobRetention).build();
+    }
+
+    public SlotImportStatusResponse startImport(MultipartFile file) {
+        Path upload;
+        try {
+            upload = Files.createTempFile("slot-import-", ".upload");
+            file.transferTo(upload);
+        } catch (IOException e) {
+            throw new ApplicationException(INTERNAL_ERROR, "Could not store the uploaded file");
+        }
+
+        SlotImportJob job = new SlotImportJob(file.getOriginalFilename());
+        jobs.put(job.id(), job);
+        importer.execute(() -> run(job, upload));
+        return job.toResponse();
+    }
+
+    public SlotImportStatusResponse getStatus(UUID jobId) {
+        SlotImportJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new EntityNotFountException(ENTITY_NOT_FOUND);
+        }
+        return job.toResponse();
+    }
+
+    private void run(SlotImportJob job, Path upload) {
+        job.running();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Set<LocalDateTime> knownStartTimes = new HashSet<>(repository.findStartTimesFrom(now));
+            List<SlotWindowView> batch = new ArrayList<>(batchSize);
+
+            SlotArchiveReader.readLines(upload, line -> {
+                if (line.isBlank() || isHeader(line)) {
+                    return;
+                }
+                job.rowRead();
+                SlotWindowView slot = parse(line, now);
+                if (slot == null) {
+                    job.invalidRow();
+                } else if (!knownStartTimes.add(slot.startTime())) {
+                    job.duplicates(1);
+                } else {
+                    batch.add(slot);
+                    if (batch.size() >= batchSize) {
+                        flush(job, batch);
+                    }
+                }
+            });
+            flush(job, batch);
+            job.completed();
+            log.info("Slot import {} finished: {}", job.id(), job.toResponse());
+        } catch (IOException | RuntimeException e) {
+            log.error("Slot import {} failed", job.id(), e);
+            job.failed(e.getMessage());
+        } finally {
+            deleteQuietly(upload);
+        }
+    }
+
+    private void flush(SlotImportJob job, List<SlotWindowView> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        SlotLoadResult result = slotCopyLoader.loadBatch(batch);
+        job.inserted(result.inserted());
+        job.duplicates(result.received() - result.inserted());
+        if (!result.added().isEmpty()) {
+            eventPublisher.publishEvent(SlotsAddedEvent.of(result.added()));
+        }
+        batch.clear();
+    }
+
+    private static SlotWindowView parse(String line, LocalDateTime now) {
+        int comma = line.indexOf(',');
+        if (comma < 0) {
+            return null;
+        }
+        try {
+            LocalDateTime startTime = LocalDateTime.parse(line.substring(0, comma).trim());
+            LocalDateTime endTime = LocalDateTime.parse(line.substring(comma + 1).trim());
+            return startTime.isAfter(now) && endTime.isAfter(startTime) ? new SlotWindowView(startTime, endTime) : null;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static boolean isHeader(String line) {
+        return line.regionMatches(true, 0, "start", 0, 5);
+    }
+
+    private static void deleteQuietly(Path upload) {
+        try {
+            Files.deleteIfExists(upload);
+        } catch (IOException e) {
+            log.warn("Could not delete import upload {}", upload, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        importer.shutdown();
+        if (!importer.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Slot import did not finish before shutdown");
+        }
+    }
+}
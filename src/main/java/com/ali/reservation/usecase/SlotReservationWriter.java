@@ -0,0 +1,73 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.infrastructure.persistence.entity.AvailableSlotEntity;
+import com.ali.reservation.infrastructure.persistence.entity.ReservationEntity;
+import com.ali.reservation.infrastructure.persistence.repository.AvailableSlotRepository;
+import com.ali.reservation.infrastructure.persistence.repository.ReservationRepository;
+import com.ali.reservation.presentation.exption.ApplicationException;
+import com.ali.reservation.presentation.exption.EntityNotFountException;
+import com.ali.reservation.usecase.event.SlotAvailabilityChangedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static com.ali.reservation.presentation.exption.ErrorType.CONFLICT;
+import static com.ali.reservation.presentation.exption.ErrorType.ENTITY_NOT_FOUND;
+
+@Service
+@RequiredArgsConstructor
+public class SlotReservationWriter {
+
+    private final AvailableSlotRepository repository;
+    private final ReservationRepository reservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Getter
+    @Value("${reservation.reserve.strategy:JPA}")
+    private ReserveStrategy strategy;
+
+    @Transactional
+    public Long reserve(Long userId, LocalDateTime slotStartTime) {
+        Long slotId;
+        if (strategy == ReserveStrategy.CONDITIONAL) {
+            slotId = reservationRepository.claimSlotByStartTime(userId, slotStartTime, LocalDateTime.now())
+                    .orElseThrow(() -> new EntityNotFountException(ENTITY_NOT_FOUND));
+        } else {
+            slotId = markReserved(userId, repository.findByStartTime(slotStartTime)
+                    .orElseThrow(() -> new EntityNotFountException(ENTITY_NOT_FOUND)));
+        }
+
+        eventPublisher.publishEvent(SlotAvailabilityChangedEvent.reserved(slotStartTime));
+        return slotId;
+    }
+
+    @Transactional
+    public Long reserveById(Long userId, Long slotId, LocalDateTime slotStartTime) {
+        if (strategy == ReserveStrategy.CONDITIONAL) {
+            reservationRepository.claimSlotById(userId, slotId, LocalDateTime.now())
+                    .orElseThrow(() -> new ApplicationException(CONFLICT, "Slot is already reserved"));
+        } else {
+            AvailableSlotEntity availableSlotEntity = repository.findById(slotId)
+                    .orElseThrow(() -> new EntityNotFountException(ENTITY_NOT_FOUND));
+            if (availableSlotEntity.isReserved()) {
+                throw new ApplicationException(CONFLICT, "Slot is already reserved");
+            }
+            markReserved(userId, availableSlotEntity);
+        }
+
+        eventPublisher.publishEvent(SlotAvailabilityChangedEvent.reserved(slotStartTime));
+        return slotId;
+    }
+
+    private Long markReserved(Long userId, AvailableSlotEntity availableSlotEntity) {
+        availableSlotEntity.setReserved(true);
+        repository.saveAndFlush(availableSlotEntity);
+        reservationRepository.save(ReservationEntity.of(userId, availableSlotEntity));
+        return availableSlotEntity.getId();
+    }
+}
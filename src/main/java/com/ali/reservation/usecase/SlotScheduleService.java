@@ -0,0 +1,78 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.infrastructure.persistence.bulk.SlotCopyLoader;
+import com.ali.reservation.infrastructure.persistence.bulk.SlotLoadResult;
+import com.ali.reservation.infrastructure.persistence.projection.SlotWindowView;
+import com.ali.reservation.presentation.dto.reqeust.SlotScheduleRequest;
+import com.ali.reservation.presentation.dto.response.SlotScheduleResponse;
+import com.ali.reservation.presentation.exption.TimeNotValidException;
+import com.ali.reservation.usecase.event.SlotsAddedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.ali.reservation.presentation.exption.ErrorType.VALIDATION_ERROR;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SlotScheduleService {
+
+    private final SlotCopyLoader slotCopyLoader;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${reservation.schedule.max-days:730}")
+    private long maxDays;
+
+    @Transactional
+    public SlotScheduleResponse publishSchedule(SlotScheduleRequest request) {
+        validate(request);
+
+        long started = System.nanoTime();
+        SlotLoadResult result = slotCopyLoader.load(expand(request));
+        log.info("Published {} of {} generated slots between {} and {} in {} ms", result.inserted(), result.received(),
+                request.getFromDate(), request.getToDate(), Duration.ofNanos(System.nanoTime() - started).toMillis());
+
+        if (result.inserted() > 0) {
+            eventPublisher.publishEvent(SlotsAddedEvent.of(result.added()));
+        }
+        return new SlotScheduleResponse(result.received(), result.inserted(), result.received() - result.inserted());
+    }
+
+    private Stream<SlotWindowView> expand(SlotScheduleRequest request) {
+        int slotMinutes = request.getSlotMinutes();
+        int slotsPerDay = (int) (ChronoUnit.MINUTES.between(request.getOpeningTime(), request.getClosingTime()) / slotMinutes);
+
+        return request.getFromDate().datesUntil(request.getToDate().plusDays(1))
+                .filter(date -> request.getDaysOfWeek().contains(date.getDayOfWeek()))
+                .filter(date -> !request.getExcludedDates().contains(date))
+                .flatMap(date -> IntStream.range(0, slotsPerDay).mapToObj(slot -> {
+                    var startTime = date.atTime(request.getOpeningTime()).plusMinutes((long) slot * slotMinutes);
+                    return new SlotWindowView(startTime, startTime.plusMinutes(slotMinutes));
+                }));
+    }
+
+    private void validate(SlotScheduleRequest request) {
+        if (request.getFromDate().isBefore(LocalDate.now())) {
+            throw new TimeNotValidException(VALIDATION_ERROR, "Schedule must start today or later.");
+        }
+        if (request.getToDate().isBefore(request.getFromDate())) {
+            throw new TimeNotValidException(VALIDATION_ERROR, "Schedule end date must not be before its start date.");
+        }
+        if (ChronoUnit.DAYS.between(request.getFromDate(), request.getToDate()) >= maxDays) {
+            throw new TimeNotValidException(VALIDATION_ERROR, "Schedule may cover at most %d days.".formatted(maxDays));
+        }
+        if (!request.getOpeningTime().isBefore(request.getClosingTime())) {
+            throw new TimeNotValidException(VALIDATION_ERROR, "Opening time must be before closing time.");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.infrastructure.persistence.entity.UserEntity;
+import com.ali.reservation.infrastructure.persistence.repository.UserRepository;
+import com.ali.reservation.presentation.exption.ApplicationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import static com.ali.reservation.presentation.exption.ErrorType.DUPLICATE_ERROR;
+
+/**
+ * Transactional half of registration. The password is hashed by the caller beforehand, so the transaction, and the
+ * pooled connection behind it, only spans the insert.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserAccountWriter {
+
+    private final UserRepository userRepository;
+
+    @Transactional
+    public UserEntity create(UserEntity user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new ApplicationException(DUPLICATE_ERROR, "Username or email already exists");
+        }
+    }
+}
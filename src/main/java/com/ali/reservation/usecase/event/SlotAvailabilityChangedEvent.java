@@ -0,0 +1,24 @@
+package com.ali.reservation.usecase.event;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public record SlotAvailabilityChangedEvent(Collection<LocalDateTime> startTimes, boolean reserved) {
+
+    public static SlotAvailabilityChangedEvent reserved(LocalDateTime startTime) {
+        return new SlotAvailabilityChangedEvent(List.of(startTime), true);
+    }
+
+    public static SlotAvailabilityChangedEvent reserved(Collection<LocalDateTime> startTimes) {
+        return new SlotAvailabilityChangedEvent(List.copyOf(startTimes), true);
+    }
+
+    public static SlotAvailabilityChangedEvent released(LocalDateTime startTime) {
+        return new SlotAvailabilityChangedEvent(List.of(startTime), false);
+    }
+
+    public static SlotAvailabilityChangedEvent released(Collection<LocalDateTime> startTimes) {
+        return new SlotAvailabilityChangedEvent(List.copyOf(startTimes), false);
+    }
+}
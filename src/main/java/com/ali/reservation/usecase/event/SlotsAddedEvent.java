@@ -0,0 +1,22 @@
+package com.ali.reservation.usecase.event;
+
+import com.ali.reservation.infrastructure.persistence.projection.SlotStateView;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Published after new slot rows were inserted. Unlike {@link SlotAvailabilityChangedEvent} it never touches
+ * the reserved state of existing slots.
+ */
+public record SlotsAddedEvent(List<SlotStateView> slots) {
+
+    public static SlotsAddedEvent of(Collection<SlotStateView> slots) {
+        return new SlotsAddedEvent(List.copyOf(slots));
+    }
+
+    public List<LocalDateTime> startTimes() {
+        return slots.stream().map(SlotStateView::startTime).toList();
+    }
+}
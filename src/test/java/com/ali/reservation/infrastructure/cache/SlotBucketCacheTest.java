@@ -0,0 +1,108 @@
+package com.ali.reservation.infrastructure.cache;
+
+import com.ali.reservation.presentation.dto.response.ReservationResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.stream.IntStream;
+
+import static com.ali.reservation.infrastructure.cache.SlotCacheInvalidator.SLOTS_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotBucketCacheTest {
+
+    private static final LocalDateTime TEN = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    private final List<LocalDateTime> loads = new ArrayList<>();
+
+    @Test
+    void getPage_fromInsideABucket_slicesTheSharedWindowFromTheFirstSlotAtOrAfterIt() {
+        SlotBucketCache cache = cache(10);
+        List<LocalDateTime> slots = hourly(TEN, 6);
+
+        Page<ReservationResponse> first = cache.getPage(TEN.plusMinutes(30), PageRequest.of(0, 2), loader(slots));
+        Page<ReservationResponse> second = cache.getPage(TEN.plusMinutes(45), PageRequest.of(1, 2), loader(slots));
+
+        assertThat(startTimes(first)).containsExactly(TEN.plusHours(1), TEN.plusHours(2));
+        assertThat(first.getTotalElements()).isEqualTo(5);
+        assertThat(startTimes(second)).containsExactly(TEN.plusHours(3), TEN.plusHours(4));
+        assertThat(loads).containsExactly(TEN);
+    }
+
+    @Test
+    void getPage_pageCrossingTheEndOfACompleteWindow_returnsTheRemainder() {
+        SlotBucketCache cache = cache(10);
+        List<LocalDateTime> slots = hourly(TEN, 4);
+
+        Page<ReservationResponse> page = cache.getPage(TEN, PageRequest.of(1, 3), loader(slots));
+
+        assertThat(startTimes(page)).containsExactly(TEN.plusHours(3));
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(loads).containsExactly(TEN);
+    }
+
+    @Test
+    void getPage_beyondATruncatedWindow_goesToTheLoader() {
+        SlotBucketCache cache = cache(3);
+        List<LocalDateTime> slots = hourly(TEN, 10);
+
+        Page<ReservationResponse> page = cache.getPage(TEN.plusMinutes(5), PageRequest.of(1, 2), loader(slots));
+
+        assertThat(startTimes(page)).containsExactly(TEN.plusHours(3), TEN.plusHours(4));
+        assertThat(page.getTotalElements()).isEqualTo(9);
+        assertThat(loads).containsExactly(TEN, TEN.plusMinutes(5));
+    }
+
+    @Test
+    void getPage_sortedPageable_bypassesTheCache() {
+        SlotBucketCache cache = cache(10);
+        List<LocalDateTime> slots = hourly(TEN, 3);
+        Pageable sorted = PageRequest.of(0, 2, Sort.by("startTime"));
+
+        cache.getPage(TEN.plusMinutes(5), sorted, loader(slots));
+        cache.getPage(TEN.plusMinutes(5), sorted, loader(slots));
+
+        assertThat(loads).containsExactly(TEN.plusMinutes(5), TEN.plusMinutes(5));
+    }
+
+    private SlotBucketCache cache(int windowSize) {
+        return new SlotBucketCache(new CaffeineCacheManager(SLOTS_CACHE), 60, windowSize);
+    }
+
+    private BiFunction<LocalDateTime, Pageable, Page<ReservationResponse>> loader(List<LocalDateTime> slots) {
+        return (from, pageable) -> {
+            loads.add(from);
+            List<ReservationResponse> matching = slots.stream()
+                    .filter(startTime -> !startTime.isBefore(from))
+                    .map(SlotBucketCacheTest::response)
+                    .toList();
+            int start = (int) Math.min(pageable.getOffset(), matching.size());
+            int end = Math.min(start + pageable.getPageSize(), matching.size());
+            return new PageImpl<>(matching.subList(start, end), pageable, matching.size());
+        };
+    }
+
+    private static List<LocalDateTime> hourly(LocalDateTime first, int count) {
+        return IntStream.range(0, count).mapToObj(first::plusHours).toList();
+    }
+
+    private static ReservationResponse response(LocalDateTime startTime) {
+        ReservationResponse response = new ReservationResponse();
+        response.setStartTime(startTime);
+        response.setEndTime(startTime.plusHours(1));
+        return response;
+    }
+
+    private static List<LocalDateTime> startTimes(Page<ReservationResponse> page) {
+        return page.getContent().stream().map(ReservationResponse::getStartTime).toList();
+    }
+}
@@ -0,0 +1,94 @@
+package com.ali.reservation.infrastructure.cache;
+
+import com.ali.reservation.infrastructure.persistence.projection.SlotStateView;
+import com.ali.reservation.usecase.event.SlotAvailabilityChangedEvent;
+import com.ali.reservation.usecase.event.SlotsAddedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.ali.reservation.infrastructure.cache.SlotCacheInvalidator.SLOTS_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlotCacheInvalidatorTest {
+
+    private static final LocalDateTime CHANGED = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+    private final CaffeineCacheManager cacheManager = new CaffeineCacheManager(SLOTS_CACHE);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SlotCacheInvalidator invalidator = new SlotCacheInvalidator(cacheManager, meterRegistry);
+    private final Cache cache = cacheManager.getCache(SLOTS_CACHE);
+
+    @Test
+    void onSlotAvailabilityChanged_evictsOnlyPagesStartingAtOrBeforeTheChange() {
+        List<Object> before = List.of(CHANGED.minusHours(1), 0, 10);
+        List<Object> at = List.of(CHANGED, 0, 10);
+        List<Object> after = List.of(CHANGED.plusMinutes(1), 0, 10);
+        cache.put(before, "page");
+        cache.put(at, "page");
+        cache.put(after, "page");
+
+        invalidator.onSlotAvailabilityChanged(SlotAvailabilityChangedEvent.reserved(CHANGED));
+
+        assertThat(cache.get(before)).isNull();
+        assertThat(cache.get(at)).isNull();
+        assertThat(cache.get(after)).isNotNull();
+        assertThat(meterRegistry.counter("reservation.slot-cache.invalidations").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("reservation.slot-cache.evicted").count()).isEqualTo(2);
+    }
+
+    @Test
+    void onSlotAvailabilityChanged_appliesTheSameRuleToBucketWindows() {
+        SlotBucketKey coveringBucket = new SlotBucketKey(CHANGED.minusMinutes(30));
+        SlotBucketKey laterBucket = new SlotBucketKey(CHANGED.plusMinutes(30));
+        cache.put(coveringBucket, "window");
+        cache.put(laterBucket, "window");
+
+        invalidator.onSlotAvailabilityChanged(SlotAvailabilityChangedEvent.released(CHANGED));
+
+        assertThat(cache.get(coveringBucket)).isNull();
+        assertThat(cache.get(laterBucket)).isNotNull();
+        assertThat(meterRegistry.counter("reservation.slot-cache.evicted").count()).isEqualTo(1);
+    }
+
+    @Test
+    void onSlotAvailabilityChanged_usesTheLatestChangedStartTime_andDropsUnknownKeys() {
+        List<Object> between = List.of(CHANGED.plusHours(1), 0, 10);
+        List<Object> later = List.of(CHANGED.plusHours(3), 0, 10);
+        cache.put(between, "page");
+        cache.put(later, "page");
+        cache.put("unrecognised", "page");
+
+        invalidator.onSlotAvailabilityChanged(SlotAvailabilityChangedEvent.reserved(
+                List.of(CHANGED, CHANGED.plusHours(2))));
+
+        assertThat(cache.get(between)).isNull();
+        assertThat(cache.get("unrecognised")).isNull();
+        assertThat(cache.get(later)).isNotNull();
+    }
+
+    @Test
+    void onSlotsAdded_evictsPagesCoveringTheNewSlots() {
+        List<Object> covering = List.of(CHANGED.minusDays(1), 0, 10);
+        cache.put(covering, "page");
+
+        invalidator.onSlotsAdded(SlotsAddedEvent.of(List.of(new SlotStateView(1L, CHANGED, false))));
+
+        assertThat(cache.get(covering)).isNull();
+    }
+
+    @Test
+    void emptyChange_evictsNothing() {
+        List<Object> page = List.of(CHANGED, 0, 10);
+        cache.put(page, "page");
+
+        invalidator.onSlotAvailabilityChanged(SlotAvailabilityChangedEvent.released(List.of()));
+
+        assertThat(cache.get(page)).isNotNull();
+        assertThat(meterRegistry.counter("reservation.slot-cache.invalidations").count()).isZero();
+    }
+}
@@ -0,0 +1,80 @@
+package com.ali.reservation.infrastructure.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(1).toNanos();
+    private static final long WINDOW = Duration.ofSeconds(1).toNanos();
+
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(TrafficClass.WRITE, 20, 2, 100,
+            Duration.ofMillis(500), 0.9, Duration.ofSeconds(1));
+
+    @Test
+    void tryAcquire_admitsUpToTheLimit() {
+        for (int i = 0; i < 20; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+
+        assertThat(limit.tryAcquire()).isFalse();
+        assertThat(limit.getInFlight()).isEqualTo(20);
+    }
+
+    @Test
+    void release_fastSaturatedCalls_growTheLimitByAboutOnePerWindow() {
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire();
+        }
+        for (int i = 0; i < 20; i++) {
+            limit.release(FAST, false, 0);
+            limit.tryAcquire();
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(20);
+        for (int i = 0; i < 5; i++) {
+            limit.release(FAST, false, 0);
+            limit.tryAcquire();
+        }
+        assertThat(limit.getLimit()).isEqualTo(21);
+    }
+
+    @Test
+    void release_fastCallsWhileMostlyIdle_leaveTheLimitAlone() {
+        for (int i = 0; i < 100; i++) {
+            limit.tryAcquire();
+            limit.release(FAST, false, 0);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void release_burstOfSlowCalls_backsOffOncePerWindow() {
+        for (int i = 0; i < 20; i++) {
+            limit.tryAcquire();
+        }
+        for (int i = 0; i < 20; i++) {
+            limit.release(SLOW, false, i);
+        }
+        assertThat(limit.getLimit()).isEqualTo(18);
+
+        limit.tryAcquire();
+        limit.release(SLOW, false, WINDOW);
+        assertThat(limit.getLimit()).isEqualTo(16);
+    }
+
+    @Test
+    void release_overloadBacksOff_butNeverBelowTheMinimum() {
+        for (int window = 0; window < 50; window++) {
+            limit.tryAcquire();
+            limit.release(FAST, true, window * WINDOW);
+        }
+
+        assertThat(limit.getLimit()).isEqualTo(2);
+    }
+}
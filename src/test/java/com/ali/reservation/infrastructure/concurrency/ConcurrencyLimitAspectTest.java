@@ -0,0 +1,49 @@
+package com.ali.reservation.infrastructure.concurrency;
+
+import com.ali.reservation.presentation.exption.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitAspectTest {
+
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(TrafficClass.WRITE, 20, 2, 100,
+            Duration.ofSeconds(10), 0.5, Duration.ZERO);
+    private final ConcurrencyLimitAspect aspect =
+            new ConcurrencyLimitAspect(List.of(limit), 1, new SimpleMeterRegistry());
+    private final ConcurrencyLimited writeLimited = mock(ConcurrencyLimited.class);
+    private final ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+
+    ConcurrencyLimitAspectTest() {
+        when(writeLimited.value()).thenReturn(TrafficClass.WRITE);
+    }
+
+    @Test
+    void limit_slotContention503_doesNotShrinkTheLimit() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new ServiceUnavailableException("Slot is busy, please retry", 1));
+
+        assertThatThrownBy(() -> aspect.limit(joinPoint, writeLimited)).isInstanceOf(ServiceUnavailableException.class);
+
+        assertThat(limit.getLimit()).isEqualTo(20);
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    void limit_connectionTimeout_shrinksTheLimit() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new CannotCreateTransactionException("no connection"));
+
+        assertThatThrownBy(() -> aspect.limit(joinPoint, writeLimited))
+                .isInstanceOf(CannotCreateTransactionException.class);
+
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,73 @@
+package com.ali.reservation.infrastructure.inventory;
+
+import com.ali.reservation.infrastructure.persistence.projection.SlotStateView;
+import com.ali.reservation.infrastructure.persistence.repository.AvailableSlotRepository;
+import com.ali.reservation.presentation.exption.ApplicationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class SlotInventoryTest {
+
+    private static final LocalDateTime SLOT = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    private final AvailableSlotRepository repository = mock(AvailableSlotRepository.class);
+    private final SlotInventory inventory = new SlotInventory(repository, true, ConsistencyMode.WRITE_THROUGH);
+
+    @Test
+    void claim_freeSlot_returnsItsIdWithoutAQuery() {
+        inventory.reconcile(List.of(new SlotStateView(7L, SLOT, false)));
+
+        assertThat(inventory.claim(SLOT)).hasValue(7L);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void claim_reservedSlot_isRejectedOnceTheDatabaseConfirmsIt() {
+        inventory.reconcile(List.of(new SlotStateView(7L, SLOT, true)));
+        when(repository.isReservedAt(SLOT)).thenReturn(true);
+
+        assertThatThrownBy(() -> inventory.claim(SLOT)).isInstanceOf(ApplicationException.class);
+    }
+
+    @Test
+    void claim_staleReservedBit_isClearedAndTheClaimSucceeds() {
+        inventory.reconcile(List.of(new SlotStateView(7L, SLOT, true)));
+        // cancelled through another instance, so this one never saw the release
+        when(repository.isReservedAt(SLOT)).thenReturn(false);
+
+        assertThat(inventory.claim(SLOT)).hasValue(7L);
+    }
+
+    @Test
+    void claim_whileThisNodesWriteIsInFlight_isRejectedWithoutAQuery() {
+        inventory.reconcile(List.of(new SlotStateView(7L, SLOT, false)));
+        inventory.claim(SLOT);
+
+        assertThatThrownBy(() -> inventory.claim(SLOT)).isInstanceOf(ApplicationException.class);
+        verifyNoInteractions(repository);
+
+        inventory.settle(SLOT);
+        when(repository.isReservedAt(SLOT)).thenReturn(true);
+        assertThatThrownBy(() -> inventory.claim(SLOT)).isInstanceOf(ApplicationException.class);
+    }
+
+    @Test
+    void pruneBefore_dropsPastSlotsOnly() {
+        inventory.reconcile(List.of(
+                new SlotStateView(1L, SLOT.minusDays(1), true),
+                new SlotStateView(2L, SLOT, false),
+                new SlotStateView(3L, SLOT.plusDays(1), false)));
+
+        assertThat(inventory.pruneBefore(SLOT)).isEqualTo(1);
+        assertThat(inventory.size()).isEqualTo(2);
+        assertThat(inventory.claim(SLOT.minusDays(1))).isEmpty();
+    }
+}
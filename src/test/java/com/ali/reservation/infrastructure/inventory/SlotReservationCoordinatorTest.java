@@ -0,0 +1,51 @@
+package com.ali.reservation.infrastructure.inventory;
+
+import com.ali.reservation.infrastructure.persistence.repository.AvailableSlotRepository;
+import com.ali.reservation.presentation.exption.ApplicationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static com.ali.reservation.presentation.exption.ErrorType.CONFLICT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class SlotReservationCoordinatorTest {
+
+    private static final LocalDateTime SLOT = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    private final AvailableSlotRepository repository = mock(AvailableSlotRepository.class);
+    private final SlotReservationCoordinator coordinator = new SlotReservationCoordinator(repository,
+            new SimpleMeterRegistry(), true, 16, Duration.ofSeconds(1), Duration.ofMinutes(1), 1000, 1);
+
+    @Test
+    void reserve_unclaimedSlot_runsTheReservationWithoutExtraQueries() {
+        assertThat(coordinator.reserve(SLOT, () -> "reserved")).isEqualTo("reserved");
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void reserve_claimedSlot_isRejectedOnceTheDatabaseConfirmsIt() {
+        coordinator.reserve(SLOT, () -> "reserved");
+        when(repository.isReservedAt(SLOT)).thenReturn(true);
+
+        assertThatThrownBy(() -> coordinator.reserve(SLOT, () -> "second"))
+                .isInstanceOfSatisfying(ApplicationException.class,
+                        e -> assertThat(e.getErrorType()).isEqualTo(CONFLICT));
+    }
+
+    @Test
+    void reserve_staleClaim_isDroppedAndTheReservationProceeds() {
+        coordinator.reserve(SLOT, () -> "reserved");
+        // cancelled through another instance, so this one never saw the release event
+        when(repository.isReservedAt(SLOT)).thenReturn(false);
+
+        assertThat(coordinator.reserve(SLOT, () -> "again")).isEqualTo("again");
+    }
+}
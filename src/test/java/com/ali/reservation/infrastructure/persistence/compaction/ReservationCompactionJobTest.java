@@ -0,0 +1,108 @@
+package com.ali.reservation.infrastructure.persistence.compaction;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against the Liquibase schema, since reservations_archive has no entity and is not created by Hibernate.
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+class ReservationCompactionJobTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:17")
+                    .withDatabaseName("test_db")
+                    .withUsername("test_user")
+                    .withPassword("test_password");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+        registry.add("spring.liquibase.enabled", () -> "true");
+        registry.add("spring.liquibase.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.liquibase.user", postgreSQLContainer::getUsername);
+        registry.add("spring.liquibase.password", postgreSQLContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM reservations_archive");
+        jdbcTemplate.update("DELETE FROM reservations");
+    }
+
+    @Test
+    void compact_archivesOnlyCancelledReservationsPastRetention_inBatches() {
+        LocalDateTime now = LocalDateTime.now();
+        long oldCancelled1 = insertReservation(now.minusDays(40), true);
+        long oldCancelled2 = insertReservation(now.minusDays(35), true);
+        long oldCancelled3 = insertReservation(now.minusDays(31), true);
+        long recentCancelled = insertReservation(now.minusDays(5), true);
+        long oldLive = insertReservation(now.minusDays(40), false);
+
+        job(Duration.ofDays(30), 2).compact();
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM reservations_archive ORDER BY id", Long.class))
+                .containsExactly(oldCancelled1, oldCancelled2, oldCancelled3);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM reservations ORDER BY id", Long.class))
+                .containsExactly(recentCancelled, oldLive);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT slot_id FROM reservations_archive WHERE id = ?", Long.class, oldCancelled1)).isEqualTo(100L);
+    }
+
+    @Test
+    void scheduleCompaction_runsOffTheSchedulerThread() throws InterruptedException {
+        long oldCancelled = insertReservation(LocalDateTime.now().minusDays(40), true);
+        ReservationCompactionJob job = job(Duration.ofDays(30), 10);
+
+        job.scheduleCompaction();
+        for (int attempt = 0; attempt < 50 && archivedCount() == 0; attempt++) {
+            Thread.sleep(100);
+        }
+        job.shutdown();
+
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM reservations_archive", Long.class))
+                .containsExactly(oldCancelled);
+    }
+
+    private ReservationCompactionJob job(Duration retention, int batchSize) {
+        return new ReservationCompactionJob(jdbcTemplate, new SimpleMeterRegistry(), true, retention, batchSize, 10,
+                Duration.ZERO);
+    }
+
+    private long insertReservation(LocalDateTime reservedAt, boolean deleted) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO reservations (user_id, slot_id, reserved_at, deleted)
+                VALUES (1, 100, ?, ?) RETURNING id
+                """, Long.class, Timestamp.valueOf(reservedAt), deleted);
+    }
+
+    private int archivedCount() {
+        Integer count = jdbcTemplate.queryForObject("SELECT count(*) FROM reservations_archive", Integer.class);
+        return count == null ? 0 : count;
+    }
+}
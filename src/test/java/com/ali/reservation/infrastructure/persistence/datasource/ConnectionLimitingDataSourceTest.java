@@ -0,0 +1,76 @@
+package com.ali.reservation.infrastructure.persistence.datasource;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ConnectionLimitingDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+    private final ConnectionLimitingDataSource dataSource =
+            new ConnectionLimitingDataSource(target, 2, Duration.ofMillis(50));
+
+    @Test
+    void getConnection_holdsAPermitUntilClosed_andReleasesItOnlyOnce() throws SQLException {
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+
+        Connection connection = dataSource.getConnection();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+
+        connection.close();
+        connection.close();
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void getConnection_timesOut_whenAllPermitsAreHeld() throws SQLException {
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(dataSource.availablePermits()).isZero();
+    }
+
+    @Test
+    void getConnection_returnsThePermit_whenTheTargetFails() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool down"));
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLException.class).hasMessage("pool down");
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void close_rethrowsTheTargetException_andStillReturnsThePermit() throws SQLException {
+        Connection connection = mock(Connection.class);
+        doThrow(new SQLException("broken connection")).when(connection).close();
+        when(target.getConnection()).thenReturn(connection);
+
+        Connection limited = dataSource.getConnection();
+
+        assertThatThrownBy(limited::close).isInstanceOf(SQLException.class).hasMessage("broken connection");
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void otherCalls_unwrapTheTargetException() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.createStatement()).thenThrow(new SQLException("closed"));
+        when(target.getConnection()).thenReturn(connection);
+
+        Connection limited = dataSource.getConnection();
+
+        assertThatThrownBy(limited::createStatement).isInstanceOf(SQLException.class).hasMessage("closed");
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,149 @@
+package com.ali.reservation.infrastructure.persistence.partition;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the real Liquibase changelog (the test profile normally builds the schema with Hibernate) so the partitioned
+ * available_slots table and the maintenance job are exercised against the schema production uses.
+ */
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+class SlotPartitionMaintenanceTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:17")
+                    .withDatabaseName("test_db")
+                    .withUsername("test_user")
+                    .withPassword("test_password");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+        registry.add("spring.liquibase.enabled", () -> "true");
+        registry.add("spring.liquibase.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.liquibase.user", postgreSQLContainer::getUsername);
+        registry.add("spring.liquibase.password", postgreSQLContainer::getPassword);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+        registry.add("reservation.partitioning.enabled", () -> "true");
+    }
+
+    @Autowired
+    private SlotPartitionMaintenance slotPartitionMaintenance;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void migration_partitionsAvailableSlotsWithADefaultPartition() {
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT relkind::text FROM pg_class WHERE relname = 'available_slots'", String.class)).isEqualTo("p");
+        assertThat(isAttached("available_slots_default")).isTrue();
+    }
+
+    @Test
+    void maintain_createsPartition_movingThatMonthsRowsOutOfTheDefaultPartition() {
+        YearMonth farMonth = YearMonth.now().plusMonths(30);
+        String partition = "available_slots_p" + farMonth.format(DateTimeFormatter.ofPattern("yyyyMM"));
+        long slot = insertSlot(farMonth.atDay(10) + " 09:00", false);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM available_slots_default", Long.class)).contains(slot);
+
+        new SlotPartitionMaintenance(jdbcTemplate, transactionManager, true, 30, 2, false, Duration.ofSeconds(2), 1)
+                .maintain();
+
+        assertThat(isAttached(partition)).isTrue();
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM " + partition, Long.class)).containsExactly(slot);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM available_slots_default", Long.class)).doesNotContain(slot);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM available_slots WHERE id = ?", Long.class, slot))
+                .containsExactly(slot);
+    }
+
+    @Test
+    void maintain_detachesOldPartitions_andArchivesSlotsThatReservationsReference() {
+        createPartition("available_slots_p202001", "2020-01-01", "2020-02-01");
+        long reservedSlot = insertSlot("2020-01-10 09:00", true);
+        long freeSlot = insertSlot("2020-01-10 10:00", false);
+        jdbcTemplate.update("INSERT INTO reservations (user_id, slot_id, reserved_at, deleted) VALUES (1, ?, now(), false)",
+                reservedSlot);
+
+        slotPartitionMaintenance.maintain();
+
+        assertThat(isAttached("available_slots_p202001")).isFalse();
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM available_slots WHERE id IN (?, ?)", Long.class,
+                reservedSlot, freeSlot)).isEmpty();
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM available_slots_archive", Long.class))
+                .containsExactly(reservedSlot);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM available_slots_p202001", Long.class))
+                .containsExactly(freeSlot);
+    }
+
+    @Test
+    void maintain_leavesPartitionAttached_whenItsLockIsNotAvailable() throws Exception {
+        createPartition("available_slots_p202002", "2020-02-01", "2020-03-01");
+        var impatient = new SlotPartitionMaintenance(jdbcTemplate, transactionManager, true, 0, 2, false,
+                Duration.ofMillis(100), 2);
+
+        try (Connection reader = dataSource.getConnection(); Statement statement = reader.createStatement()) {
+            reader.setAutoCommit(false);
+            statement.execute("LOCK TABLE available_slots_p202002 IN ACCESS SHARE MODE");
+
+            impatient.maintain();
+            assertThat(isAttached("available_slots_p202002")).isTrue();
+
+            reader.rollback();
+        }
+
+        impatient.maintain();
+        assertThat(isAttached("available_slots_p202002")).isFalse();
+    }
+
+    private void createPartition(String name, String from, String to) {
+        jdbcTemplate.execute("CREATE TABLE %s PARTITION OF available_slots FOR VALUES FROM ('%s') TO ('%s')"
+                .formatted(name, from, to));
+    }
+
+    private long insertSlot(String startTime, boolean reserved) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO available_slots (start_time, end_time, is_reserved)
+                VALUES (?::timestamp, ?::timestamp + INTERVAL '1 hour', ?) RETURNING id
+                """, Long.class, startTime, startTime, reserved);
+    }
+
+    private boolean isAttached(String partition) {
+        Integer attached = jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                WHERE p.relname = 'available_slots' AND c.relname = ?
+                """, Integer.class, partition);
+        return attached != null && attached > 0;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ali.reservation.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    @Test
+    void clientOf_withoutTrustedProxies_ignoresForwardedFor() {
+        assertThat(RateLimitFilter.clientOf("10.0.0.1", "1.2.3.4", 0)).isEqualTo("10.0.0.1");
+    }
+
+    @Test
+    void clientOf_oneTrustedProxy_takesRightmostEntry_notTheSpoofableLeftmost() {
+        assertThat(RateLimitFilter.clientOf("10.0.0.1", "6.6.6.6, 1.2.3.4", 1)).isEqualTo("1.2.3.4");
+    }
+
+    @Test
+    void clientOf_twoTrustedProxies_skipsTheInnerProxyHop() {
+        assertThat(RateLimitFilter.clientOf("10.0.0.2", "6.6.6.6, 1.2.3.4, 10.0.0.1", 2)).isEqualTo("1.2.3.4");
+    }
+
+    @Test
+    void clientOf_fewerEntriesThanTrustedHops_fallsBackToRemoteAddress() {
+        assertThat(RateLimitFilter.clientOf("10.0.0.1", "1.2.3.4", 2)).isEqualTo("10.0.0.1");
+        assertThat(RateLimitFilter.clientOf("10.0.0.1", null, 1)).isEqualTo("10.0.0.1");
+    }
+}
@@ -0,0 +1,69 @@
+package com.ali.reservation.infrastructure.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitRuleTest {
+
+    @Test
+    void tryAcquire_admitsBurstUpToCapacity_thenAsksToWaitAboutOneEmissionInterval() {
+        RateLimitRule rule = rule(3, 1);
+
+        assertThat(rule.tryAcquire("client")).isZero();
+        assertThat(rule.tryAcquire("client")).isZero();
+        assertThat(rule.tryAcquire("client")).isZero();
+
+        long retryAfter = rule.tryAcquire("client");
+        assertThat(retryAfter).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void tryAcquire_rejectedCallsDoNotConsumeCapacity() {
+        RateLimitRule rule = rule(1, 1);
+        rule.tryAcquire("client");
+
+        long first = rule.tryAcquire("client");
+        long second = rule.tryAcquire("client");
+
+        assertThat(first).isPositive();
+        assertThat(second).isPositive().isLessThanOrEqualTo(first);
+    }
+
+    @Test
+    void tryAcquire_refillsOverTime() throws InterruptedException {
+        RateLimitRule rule = rule(1, 20);
+        assertThat(rule.tryAcquire("client")).isZero();
+        assertThat(rule.tryAcquire("client")).isPositive();
+
+        Thread.sleep(60);
+
+        assertThat(rule.tryAcquire("client")).isZero();
+    }
+
+    @Test
+    void tryAcquire_keepsSeparateBucketsPerClient() {
+        RateLimitRule rule = rule(1, 1);
+
+        assertThat(rule.tryAcquire("first")).isZero();
+        assertThat(rule.tryAcquire("first")).isPositive();
+        assertThat(rule.tryAcquire("second")).isZero();
+    }
+
+    @Test
+    void matches_byMethodAndPathPrefix() {
+        RateLimitRule rule = new RateLimitRule("auth", Set.of("POST"), "/api/v1/auth", 1, 1, 10, Duration.ofMinutes(1));
+
+        assertThat(rule.matches("POST", "/api/v1/auth/login")).isTrue();
+        assertThat(rule.matches("GET", "/api/v1/auth/login")).isFalse();
+        assertThat(rule.matches("POST", "/api/v1/reservations")).isFalse();
+    }
+
+    private static RateLimitRule rule(int capacity, double refillPerSecond) {
+        return new RateLimitRule("test", Set.of("GET"), "/", capacity, refillPerSecond, 100, Duration.ofMinutes(1));
+    }
+}
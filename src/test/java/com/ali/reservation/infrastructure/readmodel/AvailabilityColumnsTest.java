@@ -0,0 +1,86 @@
+package com.ali.reservation.infrastructure.readmodel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AvailabilityColumnsTest {
+
+    private static final long HOUR = 3600;
+
+    @Test
+    void lowerBound_and_indexOf_findSlotsByStart() {
+        AvailabilityColumns columns = columns(10, i -> false);
+
+        assertThat(columns.lowerBound(0)).isZero();
+        assertThat(columns.lowerBound(3 * HOUR)).isEqualTo(3);
+        assertThat(columns.lowerBound(3 * HOUR + 1)).isEqualTo(4);
+        assertThat(columns.lowerBound(100 * HOUR)).isEqualTo(10);
+        assertThat(columns.indexOf(9 * HOUR)).isEqualTo(9);
+        assertThat(columns.indexOf(9 * HOUR + 1)).isEqualTo(-1);
+        assertThat(columns.indexOf(100 * HOUR)).isEqualTo(-1);
+    }
+
+    @Test
+    void countFree_and_forEachFree_skipReservedSlotsAcrossWordBoundaries() {
+        AvailabilityColumns columns = columns(150, i -> i % 3 == 0);
+
+        assertThat(columns.countFree(0)).isEqualTo(100);
+        assertThat(columns.countFree(columns.lowerBound(60 * HOUR))).isEqualTo(60);
+        assertThat(columns.countFree(150)).isZero();
+
+        assertThat(free(columns, 0, 0, 4)).containsExactly(1, 2, 4, 5);
+        assertThat(free(columns, 60, 40, 5)).containsExactly(121, 122, 124, 125, 127);
+        assertThat(free(columns, 0, 98, 10)).containsExactly(148, 149);
+    }
+
+    @Test
+    void setReserved_flipsOnlyTheTargetBit() {
+        AvailabilityColumns columns = columns(70, i -> false);
+
+        columns.setReserved(64, true);
+        columns.setReserved(5, true);
+        columns.setReserved(5, false);
+
+        assertThat(columns.countFree(0)).isEqualTo(69);
+        assertThat(free(columns, 63, 0, 3)).containsExactly(63, 65, 66);
+    }
+
+    @Test
+    void builder_growsPastInitialCapacity_andKeepsReservedBits() {
+        AvailabilityColumns columns = columns(3000, i -> i >= 2990);
+
+        assertThat(columns.size()).isEqualTo(3000);
+        assertThat(columns.startAt(2999)).isEqualTo(2999 * HOUR);
+        assertThat(columns.endAt(2999)).isEqualTo(3000 * HOUR);
+        assertThat(columns.countFree(2980)).isEqualTo(10);
+    }
+
+    @Test
+    void emptyColumns_haveNothingFree() {
+        AvailabilityColumns columns = new AvailabilityColumns.Builder().build();
+
+        assertThat(columns.lowerBound(HOUR)).isZero();
+        assertThat(columns.indexOf(HOUR)).isEqualTo(-1);
+        assertThat(columns.countFree(0)).isZero();
+        assertThat(free(columns, 0, 0, 10)).isEmpty();
+    }
+
+    static AvailabilityColumns columns(int size, IntPredicate reserved) {
+        AvailabilityColumns.Builder builder = new AvailabilityColumns.Builder();
+        for (int i = 0; i < size; i++) {
+            builder.add(i * HOUR, (i + 1) * HOUR, reserved.test(i));
+        }
+        return builder.build();
+    }
+
+    private static List<Integer> free(AvailabilityColumns columns, int from, long skip, int limit) {
+        List<Integer> indexes = new ArrayList<>();
+        columns.forEachFree(from, skip, limit, indexes::add);
+        return indexes;
+    }
+}
@@ -0,0 +1,100 @@
+package com.ali.reservation.infrastructure.readmodel;
+
+import com.ali.reservation.presentation.dto.response.ReservationResponse;
+import com.ali.reservation.infrastructure.persistence.projection.SlotStateView;
+import com.ali.reservation.usecase.event.SlotAvailabilityChangedEvent;
+import com.ali.reservation.usecase.event.SlotsAddedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AvailabilityIndexTest {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+
+    private final AvailabilityIndexLoader loader = mock(AvailabilityIndexLoader.class);
+
+    @Test
+    void findAvailable_pagesOverFreeSlotsFromTheRequestedStart() {
+        when(loader.load(any())).thenReturn(AvailabilityColumnsTest.columns(10, i -> i == 4));
+        AvailabilityIndex index = new AvailabilityIndex(loader, true);
+        index.refresh();
+
+        Page<ReservationResponse> page = index.findAvailable(EPOCH.plusHours(3), PageRequest.of(0, 3));
+
+        assertThat(page.getTotalElements()).isEqualTo(6);
+        assertThat(page.getContent()).extracting(ReservationResponse::getStartTime)
+                .containsExactly(EPOCH.plusHours(3), EPOCH.plusHours(5), EPOCH.plusHours(6));
+    }
+
+    @Test
+    void onSlotAvailabilityChanged_flipsReservedBitInPlace() {
+        when(loader.load(any())).thenReturn(AvailabilityColumnsTest.columns(10, i -> false));
+        AvailabilityIndex index = new AvailabilityIndex(loader, true);
+        index.refresh();
+
+        index.onSlotAvailabilityChanged(SlotAvailabilityChangedEvent.reserved(EPOCH.plusHours(2)));
+        assertThat(index.findAvailable(EPOCH.plusHours(2), PageRequest.of(0, 1)).getContent())
+                .extracting(ReservationResponse::getStartTime).containsExactly(EPOCH.plusHours(3));
+
+        index.onSlotAvailabilityChanged(SlotAvailabilityChangedEvent.released(EPOCH.plusHours(2)));
+        assertThat(index.findAvailable(EPOCH.plusHours(2), PageRequest.of(0, 1)).getContent())
+                .extracting(ReservationResponse::getStartTime).containsExactly(EPOCH.plusHours(2));
+    }
+
+    @Test
+    void refresh_replaysChangesThatArrivedWhileLoading() {
+        AvailabilityIndex index = new AvailabilityIndex(loader, true);
+        when(loader.load(any())).thenAnswer(invocation -> {
+            index.onSlotAvailabilityChanged(SlotAvailabilityChangedEvent.reserved(EPOCH.plusHours(1)));
+            return AvailabilityColumnsTest.columns(3, i -> false);
+        });
+
+        index.refresh();
+
+        assertThat(index.isServing()).isTrue();
+        assertThat(index.findAvailable(EPOCH, PageRequest.of(0, 10)).getContent())
+                .extracting(ReservationResponse::getStartTime)
+                .containsExactly(EPOCH, EPOCH.plusHours(2));
+    }
+
+    @Test
+    void onSlotsAdded_rebuildsInTheBackgroundWithoutTouchingReservedBits() {
+        when(loader.load(any()))
+                .thenReturn(AvailabilityColumnsTest.columns(2, i -> i == 1))
+                .thenReturn(AvailabilityColumnsTest.columns(3, i -> i == 1));
+        AvailabilityIndex index = new AvailabilityIndex(loader, true);
+        index.refresh();
+
+        index.onSlotsAdded(SlotsAddedEvent.of(List.of(new SlotStateView(3L, EPOCH.plusHours(2), false))));
+
+        verify(loader, timeout(2000).times(2)).load(any());
+        synchronized (index) {
+            // refresh() holds the monitor while loading, so once acquired the rebuilt snapshot is published
+            assertThat(index.findAvailable(EPOCH, PageRequest.of(0, 10)).getContent())
+                    .extracting(ReservationResponse::getStartTime)
+                    .containsExactly(EPOCH, EPOCH.plusHours(2));
+        }
+        index.shutdown();
+    }
+
+    @Test
+    void disabledIndex_neverServes() {
+        AvailabilityIndex index = new AvailabilityIndex(loader, false);
+
+        index.refresh();
+
+        assertThat(index.isServing()).isFalse();
+    }
+}
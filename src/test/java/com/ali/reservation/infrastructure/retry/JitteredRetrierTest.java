@@ -0,0 +1,89 @@
+package com.ali.reservation.infrastructure.retry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JitteredRetrierTest {
+
+    private static final Set<Class<? extends RuntimeException>> RETRY_ON = Set.of(IllegalStateException.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JitteredRetrier retrier = new JitteredRetrier(meterRegistry, 3, Duration.ofMillis(2),
+            Duration.ofMillis(20), 0.1, 100, Duration.ofSeconds(10));
+
+    @Test
+    void nextDelayMillis_staysBetweenBaseAndThreeTimesThePreviousDelay() {
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(retrier.nextDelayMillis(2)).isBetween(2L, 6L);
+            assertThat(retrier.nextDelayMillis(5)).isBetween(2L, 15L);
+        }
+    }
+
+    @Test
+    void nextDelayMillis_isCappedAtTheMaximumDelay() {
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(retrier.nextDelayMillis(1_000)).isBetween(2L, 20L);
+        }
+    }
+
+    @Test
+    void execute_retriesRetryableFailuresUntilTheActionSucceeds() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String result = retrier.execute("test", () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new IllegalStateException("collision");
+            }
+            return "done";
+        }, RETRY_ON, () -> false);
+
+        assertThat(result).isEqualTo("done");
+        assertThat(calls).hasValue(3);
+        assertThat(meterRegistry.counter("reservation.retry.attempts", "operation", "test").count()).isEqualTo(2);
+    }
+
+    @Test
+    void execute_givesUpAfterMaxAttempts() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> retrier.execute("test", () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("collision");
+        }, RETRY_ON, () -> false)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(calls).hasValue(3);
+        assertThat(meterRegistry.counter("reservation.retry.exhausted", "operation", "test").count()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_stopsAtOnce_whenFailFastSaysAnotherAttemptCannotSucceed() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> retrier.execute("test", () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("collision");
+        }, RETRY_ON, () -> true)).isInstanceOf(IllegalStateException.class);
+
+        assertThat(calls).hasValue(1);
+        assertThat(meterRegistry.counter("reservation.retry.fail-fast", "operation", "test").count()).isEqualTo(1);
+    }
+
+    @Test
+    void execute_neverRetriesOtherFailures() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> retrier.execute("test", () -> {
+            calls.incrementAndGet();
+            throw new IllegalArgumentException("bad input");
+        }, RETRY_ON, () -> false)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(calls).hasValue(1);
+    }
+}
@@ -0,0 +1,77 @@
+package com.ali.reservation.infrastructure.retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBudgetTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+    private final RetryBudget budget = new RetryBudget(0.1, 1, Duration.ofSeconds(10), clock::get);
+
+    @Test
+    void tryAcquireRetry_quietService_getsTheMinimumPerWindow() {
+        assertThat(acquired(20)).isEqualTo(10);
+    }
+
+    @Test
+    void tryAcquireRetry_busyService_getsItsRatioOfRecentCalls() {
+        for (int i = 0; i < 1_000; i++) {
+            budget.recordCall();
+        }
+
+        assertThat(acquired(200)).isEqualTo(100);
+    }
+
+    @Test
+    void tryAcquireRetry_spentBudget_recoversOnceTheWindowHasPassed() {
+        assertThat(acquired(10)).isEqualTo(10);
+        clock.addAndGet(5 * SECOND);
+        assertThat(budget.tryAcquireRetry()).isFalse();
+
+        clock.addAndGet(5 * SECOND);
+        assertThat(acquired(20)).isEqualTo(10);
+    }
+
+    @Test
+    void tryAcquireRetry_countsCallsAcrossTheWholeWindow() {
+        for (int second = 0; second < 10; second++) {
+            for (int i = 0; i < 100; i++) {
+                budget.recordCall();
+            }
+            clock.addAndGet(SECOND);
+        }
+        clock.addAndGet(-SECOND);
+
+        assertThat(acquired(200)).isEqualTo(100);
+    }
+
+    @Test
+    void tryAcquireRetry_negativeNanoTime_stillTracksTheWindow() {
+        clock.set(-1_000 * SECOND - SECOND / 2);
+        for (int second = 0; second < 10; second++) {
+            for (int i = 0; i < 100; i++) {
+                budget.recordCall();
+            }
+            clock.addAndGet(SECOND);
+        }
+        clock.addAndGet(-SECOND);
+
+        assertThat(acquired(200)).isEqualTo(100);
+    }
+
+    private int acquired(int attempts) {
+        int acquired = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (budget.tryAcquireRetry()) {
+                acquired++;
+            }
+        }
+        return acquired;
+    }
+}
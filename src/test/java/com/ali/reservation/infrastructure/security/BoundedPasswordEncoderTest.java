@@ -0,0 +1,95 @@
+package com.ali.reservation.infrastructure.security;
+
+import com.ali.reservation.presentation.exption.GlobalExceptionHandler;
+import com.ali.reservation.presentation.exption.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordEncoder delegate = mock(PasswordEncoder.class);
+    private final BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, 1, 1, 3, meterRegistry);
+    private final CountDownLatch hashing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    @Test
+    void encode_runsTheDelegateOnTheHashingPool() {
+        when(delegate.encode("secret")).thenAnswer(invocation -> Thread.currentThread().getName());
+
+        assertThat(encoder.encode("secret")).startsWith("password-hashing-");
+    }
+
+    @Test
+    void encode_fullQueue_isRejectedWithRetryAfter() throws Exception {
+        CompletableFuture<String> running = fillPoolAndQueue();
+
+        assertThatThrownBy(() -> encoder.encode("third"))
+                .isInstanceOfSatisfying(ServiceUnavailableException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(3));
+        assertThat(meterRegistry.counter("reservation.password-hash.rejected").count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash");
+    }
+
+    @Test
+    void rejection_isAnsweredWith503AndRetryAfter() throws Exception {
+        fillPoolAndQueue();
+
+        ServiceUnavailableException rejection = null;
+        try {
+            encoder.matches("third", "hash");
+        } catch (ServiceUnavailableException e) {
+            rejection = e;
+        }
+
+        assertThat(rejection).isNotNull();
+        var response = new GlobalExceptionHandler().handleServiceUnavailable(rejection,
+                new ServletWebRequest(new MockHttpServletRequest()));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+    }
+
+    /**
+     * Occupies the single worker and the single queue slot.
+     */
+    private CompletableFuture<String> fillPoolAndQueue() throws InterruptedException {
+        when(delegate.encode(anyString())).thenAnswer(invocation -> {
+            hashing.countDown();
+            release.await();
+            return "hash";
+        });
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertThat(hashing.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("reservation.password-hash.queue").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(meterRegistry.get("reservation.password-hash.queue").gauge().value()).isEqualTo(1);
+        return running;
+    }
+}
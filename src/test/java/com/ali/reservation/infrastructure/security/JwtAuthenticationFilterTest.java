@@ -0,0 +1,87 @@
+package com.ali.reservation.infrastructure.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class JwtAuthenticationFilterTest {
+
+    private final JwtService jwtService = JwtServiceTest.jwtService(100);
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+    private final TokenDenyList tokenDenyList = new TokenDenyList(900, 1_000);
+    private final JwtAuthenticationFilter filter =
+            new JwtAuthenticationFilter(jwtService, userDetailsService, tokenDenyList);
+    private final UserSecurity user = UserSecurity.builder().id(7L).username("alice").email("alice@example.com")
+            .roles(Set.of(UserSecurity.ADMIN)).build();
+
+    JwtAuthenticationFilterTest() {
+        ReflectionTestUtils.setField(filter, "stateless", true);
+        ReflectionTestUtils.setField(filter, "revocationEnabled", true);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void statelessMode_buildsThePrincipalFromClaimsWithoutLoadingTheUser() throws Exception {
+        String token = jwtService.generateToken(user, jwtService.startSession());
+
+        Authentication authentication = filter(token);
+
+        assertThat(authentication).isNotNull();
+        assertThat(authentication.getPrincipal()).isInstanceOfSatisfying(UserSecurity.class, principal -> {
+            assertThat(principal.getId()).isEqualTo(7L);
+            assertThat(principal.getUsername()).isEqualTo("alice");
+            assertThat(principal.getEmail()).isEqualTo("alice@example.com");
+            assertThat(principal.getRoles()).containsExactly(UserSecurity.ADMIN);
+        });
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void revokedTokenId_isNotAuthenticated() throws Exception {
+        String token = jwtService.generateToken(user, jwtService.startSession());
+        tokenDenyList.revoke(jwtService.verify(token).orElseThrow());
+
+        assertThat(filter(token)).isNull();
+    }
+
+    @Test
+    void revokedSession_rejectsEveryTokenOfThatSession() throws Exception {
+        TokenSession session = jwtService.startSession();
+        String token = jwtService.generateToken(user, session);
+        tokenDenyList.revokeSession(session);
+
+        assertThat(filter(token)).isNull();
+        assertThat(filter(jwtService.generateToken(user, jwtService.startSession()))).isNotNull();
+    }
+
+    @Test
+    void refreshToken_isNotAcceptedAsAnAccessToken() throws Exception {
+        String refreshToken = jwtService.generateRefreshToken(user, jwtService.startSession());
+
+        assertThat(filter(refreshToken)).isNull();
+    }
+
+    private Authentication filter(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
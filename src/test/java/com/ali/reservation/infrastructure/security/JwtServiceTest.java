@@ -0,0 +1,101 @@
+package com.ali.reservation.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class JwtServiceTest {
+
+    private static final String SECRET =
+            "verySecureSecretKeyThatShouldBeStoredInASafeEnvVar123456789012345678901234567890";
+    private static final long ACCESS_EXPIRATION = 60_000;
+
+    private final UserSecurity user = UserSecurity.builder().id(1L).username("alice").email("alice@example.com").build();
+
+    @Test
+    void verify_tokenSeenBefore_isAnsweredWithoutParsing() {
+        JwtService jwtService = jwtService(100);
+        String token = jwtService.generateToken(user, jwtService.startSession());
+        Claims claims = jwtService.verify(token).orElseThrow();
+
+        JwtParser parser = mock(JwtParser.class);
+        ReflectionTestUtils.setField(jwtService, "parser", parser);
+
+        assertThat(jwtService.verify(token)).contains(claims);
+        verifyNoInteractions(parser);
+    }
+
+    @Test
+    void verify_cachedEntry_expiresWithTheToken() {
+        JwtService jwtService = jwtService(100);
+        String token = jwtService.generateToken(user, jwtService.startSession());
+        Date expiration = jwtService.verify(token).orElseThrow().getExpiration();
+
+        Cache<String, Claims> cache = verifiedTokens(jwtService);
+        String key = cache.asMap().keySet().iterator().next();
+        long expiresAfter = cache.policy().expireVariably().orElseThrow()
+                .getExpiresAfter(key, TimeUnit.MILLISECONDS).orElseThrow();
+
+        long untilExpiration = expiration.getTime() - System.currentTimeMillis();
+        assertThat(expiresAfter).isBetween(untilExpiration - 1_000, untilExpiration + 1_000);
+        assertThat(expiresAfter).isLessThanOrEqualTo(ACCESS_EXPIRATION);
+    }
+
+    @Test
+    void verify_tamperedToken_isRejectedEvenWhenTheOriginalIsCached() {
+        JwtService jwtService = jwtService(100);
+        String token = jwtService.generateToken(user, jwtService.startSession());
+        assertThat(jwtService.verify(token)).isPresent();
+
+        String[] parts = token.split("\\.");
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        String payload = new String(decoder.decode(parts[1]), StandardCharsets.UTF_8).replace("\"userId\":1", "\"userId\":2");
+        String tampered = parts[0] + "."
+                + Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + parts[2];
+
+        assertThat(tampered).isNotEqualTo(token);
+        assertThat(jwtService.verify(tampered)).isEmpty();
+        assertThat(verifiedTokens(jwtService).asMap()).hasSize(1);
+    }
+
+    @Test
+    void verify_cacheIsBoundedByMaxSize() {
+        JwtService jwtService = jwtService(2);
+        TokenSession session = jwtService.startSession();
+        for (int i = 0; i < 10; i++) {
+            assertThat(jwtService.verify(jwtService.generateToken(user, session))).isPresent();
+        }
+
+        Cache<String, Claims> cache = verifiedTokens(jwtService);
+        cache.cleanUp();
+        assertThat(cache.estimatedSize()).isLessThanOrEqualTo(2);
+    }
+
+    static JwtService jwtService(long maxSize) {
+        JwtService jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtService, "accessTokenExpiration", ACCESS_EXPIRATION);
+        ReflectionTestUtils.setField(jwtService, "sessionExpiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtService, "issuer", "reservation-application");
+        ReflectionTestUtils.setField(jwtService, "verifiedCacheMaxSize", maxSize);
+        jwtService.prepareKeys();
+        return jwtService;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cache<String, Claims> verifiedTokens(JwtService jwtService) {
+        return (Cache<String, Claims>) ReflectionTestUtils.getField(jwtService, "verifiedTokens");
+    }
+}
@@ -0,0 +1,105 @@
+package com.ali.reservation.infrastructure.security;
+
+import com.ali.reservation.infrastructure.bloom.BloomFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenDenyListTest {
+
+    private static final long BUCKET_MILLIS = 60_000;
+
+    private final TokenDenyList denyList = new TokenDenyList(BUCKET_MILLIS / 1000, 1_000);
+
+    @Test
+    void revoke_isOnlyAcceptedOncePerTokenId() {
+        Claims claims = claims("jti-1", expiringIn(BUCKET_MILLIS));
+
+        assertThat(denyList.revoke(claims)).isTrue();
+        assertThat(denyList.revoke(claims)).isFalse();
+        assertThat(denyList.isRevoked(claims)).isTrue();
+        assertThat(denyList.isRevoked(claims("jti-2", expiringIn(BUCKET_MILLIS)))).isFalse();
+    }
+
+    @Test
+    void revoke_bucketsRevocationsByExpiry() {
+        Date soon = expiringIn(BUCKET_MILLIS);
+        Date later = expiringIn(10 * BUCKET_MILLIS);
+        denyList.revoke(claims("soon", soon));
+        denyList.revoke(claims("later", later));
+
+        Map<Long, BloomFilter> buckets = buckets();
+        assertThat(buckets).containsOnlyKeys(soon.getTime() / BUCKET_MILLIS, later.getTime() / BUCKET_MILLIS);
+        assertThat(buckets.get(soon.getTime() / BUCKET_MILLIS).mightContain("soon")).isTrue();
+        // a token is only looked up in the bucket of its own expiry
+        assertThat(denyList.isRevoked(claims("soon", later))).isFalse();
+    }
+
+    @Test
+    void revoke_dropsBucketsWhoseTokensHaveAllExpired() {
+        Date expired = new Date(System.currentTimeMillis() - 2 * BUCKET_MILLIS);
+        denyList.revoke(claims("expired", expired));
+        assertThat(buckets()).containsKey(expired.getTime() / BUCKET_MILLIS);
+
+        denyList.revoke(claims("live", expiringIn(BUCKET_MILLIS)));
+
+        assertThat(buckets()).doesNotContainKey(expired.getTime() / BUCKET_MILLIS);
+    }
+
+    @Test
+    void revokedEntry_expiresWithTheToken() {
+        Date expiration = expiringIn(BUCKET_MILLIS);
+        denyList.revoke(claims("jti-1", expiration));
+
+        long expiresAfter = revoked().policy().expireVariably().orElseThrow()
+                .getExpiresAfter("jti-1", TimeUnit.MILLISECONDS).orElseThrow();
+        long untilExpiration = expiration.getTime() - System.currentTimeMillis();
+        assertThat(expiresAfter).isBetween(untilExpiration - 1_000, untilExpiration + 1_000);
+    }
+
+    @Test
+    void revokedEntry_forAnExpiredToken_isNotKept() {
+        Claims claims = claims("jti-1", new Date(System.currentTimeMillis() - 1_000));
+        denyList.revoke(claims);
+
+        assertThat(denyList.isRevoked(claims)).isFalse();
+    }
+
+    @Test
+    void revokeSession_coversEveryTokenOfTheSession() {
+        TokenSession session = new TokenSession("session-1", expiringIn(BUCKET_MILLIS));
+        denyList.revokeSession(session);
+
+        Claims claims = Jwts.claims().id("jti-1").expiration(expiringIn(BUCKET_MILLIS))
+                .add(TokenSession.ID_CLAIM, session.id())
+                .add(TokenSession.EXPIRES_AT_CLAIM, session.expiresAt().getTime())
+                .build();
+        assertThat(denyList.isRevoked(claims)).isTrue();
+    }
+
+    private static Claims claims(String id, Date expiration) {
+        return Jwts.claims().id(id).expiration(expiration).build();
+    }
+
+    private static Date expiringIn(long millis) {
+        return new Date(System.currentTimeMillis() + millis);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, BloomFilter> buckets() {
+        return (Map<Long, BloomFilter>) ReflectionTestUtils.getField(denyList, "buckets");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<String, Date> revoked() {
+        return (Cache<String, Date>) ReflectionTestUtils.getField(denyList, "revoked");
+    }
+}
@@ -0,0 +1,95 @@
+package com.ali.reservation.presentation;
+
+import com.ali.reservation.infrastructure.persistence.projection.SlotWindowView;
+import com.ali.reservation.presentation.exption.GlobalExceptionHandler;
+import com.ali.reservation.presentation.exption.TimeNotValidException;
+import com.ali.reservation.usecase.ReservationPipeline;
+import com.ali.reservation.usecase.ReserveTicketService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import static com.ali.reservation.presentation.exption.ErrorType.VALIDATION_ERROR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ReserveControllerExportTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2030, 1, 1, 9, 0);
+    private static final LocalDateTime TO = FROM.plusDays(1);
+
+    private final ReserveTicketService reserveTicketService = mock(ReserveTicketService.class);
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+    private final ReserveController controller =
+            new ReserveController(reserveTicketService, mock(ReservationPipeline.class), objectMapper);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+
+    ReserveControllerExportTest() {
+        ReflectionTestUtils.setField(controller, "exportTimeout", Duration.ofSeconds(7));
+    }
+
+    @Test
+    void exportAvailableSlots_writesOneJsonObjectPerLine() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<SlotWindowView> sink = invocation.getArgument(2);
+            sink.accept(new SlotWindowView(FROM, FROM.plusHours(1)));
+            sink.accept(new SlotWindowView(FROM.plusHours(1), FROM.plusHours(2)));
+            return null;
+        }).when(reserveTicketService).exportAvailableSlots(eq(FROM), eq(TO), any());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/reservations/slots/export")
+                        .param("from", FROM.toString()).param("to", TO.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"));
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], SlotWindowView.class))
+                .isEqualTo(new SlotWindowView(FROM, FROM.plusHours(1)));
+        assertThat(objectMapper.readValue(lines[1], SlotWindowView.class))
+                .isEqualTo(new SlotWindowView(FROM.plusHours(1), FROM.plusHours(2)));
+    }
+
+    @Test
+    void exportAvailableSlots_windowRejectedByValidation_isA400BeforeStreaming() throws Exception {
+        doThrow(new TimeNotValidException(VALIDATION_ERROR, "Export window must not exceed 31 days."))
+                .when(reserveTicketService).validateExportWindow(FROM, FROM.plusDays(60));
+
+        mockMvc.perform(get("/api/v1/reservations/slots/export")
+                        .param("from", FROM.toString()).param("to", FROM.plusDays(60).toString()))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void exportAvailableSlots_usesItsOwnAsyncTimeout() {
+        WebAsyncTask<Void> task = controller.exportAvailableSlots(FROM, TO, new MockHttpServletResponse());
+
+        assertThat(task.getTimeout()).isEqualTo(7_000L);
+    }
+}
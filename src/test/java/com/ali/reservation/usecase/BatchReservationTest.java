@@ -0,0 +1,95 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.infrastructure.security.SecurityUtils;
+import com.ali.reservation.presentation.dto.reqeust.BatchReserveSlotRequest;
+import com.ali.reservation.presentation.exption.ApplicationException;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mockStatic;
+
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+class BatchReservationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:17")
+                    .withDatabaseName("test_db")
+                    .withUsername("test_user")
+                    .withPassword("test_password");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private ConcurrencyTestHelper concurrencyHelper;
+
+    @Autowired
+    private ReserveTicketService reserveTicketService;
+
+    @Test
+    void reserveSlots_allAvailable_reservesEverySlot() {
+        var baseTime = LocalDateTime.now().plusDays(1).withNano(0);
+        var slot1 = concurrencyHelper.createSlotForConcurrencyTest(baseTime);
+        var slot2 = concurrencyHelper.createSlotForConcurrencyTest(baseTime.plusHours(1));
+        var user = concurrencyHelper.createUserForConcurrencyTest("batch-user");
+
+        executeAs(user, () -> reserveTicketService.reserveSlots(
+                createBatchRequest(slot1.getStartTime(), slot2.getStartTime())));
+
+        assertThat(concurrencyHelper.findSlotById(slot1.getId()).isReserved()).isTrue();
+        assertThat(concurrencyHelper.findSlotById(slot2.getId()).isReserved()).isTrue();
+        assertThat(concurrencyHelper.countReservationsForSlot(slot1.getId())).isEqualTo(1);
+        assertThat(concurrencyHelper.countReservationsForSlot(slot2.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void do_not_allow_reserveSlots_whenAnySlotIsTaken_reservesNone() {
+        var baseTime = LocalDateTime.now().plusDays(2).withNano(0);
+        var free = concurrencyHelper.createSlotForConcurrencyTest(baseTime);
+        var taken = concurrencyHelper.createSlotForConcurrencyTest(baseTime.plusHours(1));
+        var owner = concurrencyHelper.createUserForConcurrencyTest("batch-owner");
+        var user = concurrencyHelper.createUserForConcurrencyTest("batch-user");
+
+        executeAs(owner, () -> reserveTicketService.reserveSlots(createBatchRequest(taken.getStartTime())));
+
+        assertThatThrownBy(() -> executeAs(user, () -> reserveTicketService.reserveSlots(
+                createBatchRequest(free.getStartTime(), taken.getStartTime()))))
+                .isInstanceOf(ApplicationException.class);
+
+        assertThat(concurrencyHelper.findSlotById(free.getId()).isReserved()).isFalse();
+        assertThat(concurrencyHelper.countReservationsForSlot(free.getId())).isZero();
+    }
+
+    private BatchReserveSlotRequest createBatchRequest(LocalDateTime... startTimes) {
+        var request = new BatchReserveSlotRequest();
+        request.setSlotStartTimes(List.of(startTimes));
+        return request;
+    }
+
+    private void executeAs(TestUser user, Runnable action) {
+        try (MockedStatic<SecurityUtils> mockedSecurity = mockStatic(SecurityUtils.class)) {
+            mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(user.id());
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.ali.reservation.usecase;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "reservation.reserve.strategy=CONDITIONAL")
+@Testcontainers
+@ActiveProfiles("test")
+class ConditionalReservationConcurrencyTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:17")
+                    .withDatabaseName("test_db")
+                    .withUsername("test_user")
+                    .withPassword("test_password");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private ConcurrencyTestHelper concurrencyHelper;
+
+    @Test
+    void reserveSlot_sameSlotTenUsers_onlyOneSucceeds() {
+        var slot = concurrencyHelper.createSlotForConcurrencyTest(LocalDateTime.now().plusHours(7));
+
+        List<TestUser> users = IntStream.range(0, 10)
+                .mapToObj(index -> concurrencyHelper.createUserForConcurrencyTest("conditional-user" + index)).toList();
+
+        ConcurrencyTestResult result = concurrencyHelper.executeConcurrentReservations(slot, users);
+
+        assertThat(result.successCount()).isEqualTo(1);
+        assertThat(result.failureCount()).isEqualTo(9);
+        assertThat(concurrencyHelper.findSlotById(slot.getId()).isReserved()).isTrue();
+        assertThat(concurrencyHelper.countReservationsForSlot(slot.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void reserveSlot_differentSlotsTwoUsers_bothSucceed() {
+        var baseTime = LocalDateTime.now().plusHours(8);
+        var slot1 = concurrencyHelper.createSlotForConcurrencyTest(baseTime);
+        var slot2 = concurrencyHelper.createSlotForConcurrencyTest(baseTime.plusHours(1));
+        var user1 = concurrencyHelper.createUserForConcurrencyTest("conditional-user1");
+        var user2 = concurrencyHelper.createUserForConcurrencyTest("conditional-user2");
+
+        ConcurrencyTestResult result = concurrencyHelper.executeParallelReservations(user1, slot1, user2, slot2);
+
+        assertThat(result.successCount()).isEqualTo(2);
+        assertThat(result.failureCount()).isEqualTo(0);
+    }
+}
@@ -0,0 +1,64 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.infrastructure.inventory.SlotContention;
+import com.ali.reservation.infrastructure.inventory.SlotReservationCoordinator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "reservation.coordinator.enabled=true")
+@Testcontainers
+@ActiveProfiles("test")
+class CoordinatedReservationConcurrencyTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:17")
+                    .withDatabaseName("test_db")
+                    .withUsername("test_user")
+                    .withPassword("test_password");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private ConcurrencyTestHelper concurrencyHelper;
+
+    @Autowired
+    private SlotReservationCoordinator slotReservationCoordinator;
+
+    @Test
+    void reserveSlot_sameSlotTenUsers_oneSucceeds_andLosersAreCountedAsContention() {
+        var slot = concurrencyHelper.createSlotForConcurrencyTest(LocalDateTime.now().plusHours(9).withNano(0));
+
+        List<TestUser> users = IntStream.range(0, 10)
+                .mapToObj(index -> concurrencyHelper.createUserForConcurrencyTest("coordinated-user" + index)).toList();
+
+        ConcurrencyTestResult result = concurrencyHelper.executeConcurrentReservations(slot, users);
+
+        assertThat(result.successCount()).isEqualTo(1);
+        assertThat(result.failureCount()).isEqualTo(9);
+        assertThat(concurrencyHelper.countReservationsForSlot(slot.getId())).isEqualTo(1);
+        assertThat(slotReservationCoordinator.topContended(10))
+                .filteredOn(contention -> contention.slotStartTime().equals(slot.getStartTime()))
+                .singleElement()
+                .extracting(SlotContention::rejected)
+                .isEqualTo(9L);
+    }
+}
@@ -0,0 +1,81 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.infrastructure.inventory.SlotInventoryReconciler;
+import com.ali.reservation.infrastructure.persistence.entity.AvailableSlotEntity;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "reservation.inventory.enabled=true",
+        "reservation.inventory.consistency-mode=WRITE_THROUGH"
+})
+@Testcontainers
+@ActiveProfiles("test")
+class InventoryReservationConcurrencyTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:17")
+                    .withDatabaseName("test_db")
+                    .withUsername("test_user")
+                    .withPassword("test_password");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private ConcurrencyTestHelper concurrencyHelper;
+
+    @Autowired
+    private SlotInventoryReconciler slotInventoryReconciler;
+
+    @Test
+    void reserveSlot_trackedSlotTenUsers_onlyOneSucceeds() {
+        var slot = concurrencyHelper.createSlotForConcurrencyTest(LocalDateTime.now().plusHours(5));
+        slotInventoryReconciler.reconcile();
+
+        List<TestUser> users = IntStream.range(0, 10)
+                .mapToObj(index -> concurrencyHelper.createUserForConcurrencyTest("inventory-user" + index)).toList();
+
+        ConcurrencyTestResult result = concurrencyHelper.executeConcurrentReservations(slot, users);
+
+        assertThat(result.successCount()).isEqualTo(1);
+        assertThat(result.failureCount()).isEqualTo(9);
+        assertSlotFinalStateIsConsistent(slot);
+    }
+
+    @Test
+    void reserveSlot_untrackedSlot_fallsBackToDatabase() {
+        var slot = concurrencyHelper.createSlotForConcurrencyTest(LocalDateTime.now().plusHours(6));
+        var user1 = concurrencyHelper.createUserForConcurrencyTest("inventory-user1");
+        var user2 = concurrencyHelper.createUserForConcurrencyTest("inventory-user2");
+
+        ConcurrencyTestResult result = concurrencyHelper.executeSimultaneousReservations(slot, user1, user2);
+
+        assertThat(result.successCount()).isEqualTo(1);
+        assertThat(result.failureCount()).isEqualTo(1);
+        assertSlotFinalStateIsConsistent(slot);
+    }
+
+    private void assertSlotFinalStateIsConsistent(AvailableSlotEntity slot) {
+        assertThat(concurrencyHelper.findSlotById(slot.getId()).isReserved()).isTrue();
+        assertThat(concurrencyHelper.countReservationsForSlot(slot.getId())).isEqualTo(1);
+    }
+}
@@ -0,0 +1,100 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.infrastructure.persistence.entity.UserEntity;
+import com.ali.reservation.infrastructure.persistence.repository.UserRepository;
+import com.ali.reservation.presentation.dto.reqeust.LoginRequest;
+import com.ali.reservation.presentation.dto.response.AuthResponse;
+import com.ali.reservation.presentation.dto.response.RegisterRequest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Testcontainers
+@ActiveProfiles("test")
+class LoginQueryCountTest {
+
+    private static final int ITERATIONS = 20;
+    private static final String USERNAME = "login-bench";
+    private static final String PASSWORD = "login-bench-password";
+
+    @Container
+    static final PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:17")
+                    .withDatabaseName("test_db")
+                    .withUsername("test_user")
+                    .withPassword("test_password");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (userRepository.findByUsername(USERNAME).isEmpty()) {
+            var request = new RegisterRequest();
+            request.setUsername(USERNAME);
+            request.setEmail(USERNAME + "@example.com");
+            request.setPassword(PASSWORD);
+            authService.register(request);
+        }
+    }
+
+    // Statement count stands in for latency: a login is dominated by the password hash, so the saved select is
+    // below the run-to-run noise of a wall-clock measurement against a container.
+    @Test
+    void login_issuesExactlyOneUserSelect() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            Objects.requireNonNull(cacheManager.getCache("users")).clear();
+            statistics.clear();
+
+            AuthResponse response = authService.login(loginRequest());
+
+            assertThat(response.getUser().getUsername()).isEqualTo(USERNAME);
+            assertThat(response.getUser().getEmail()).isEqualTo(USERNAME + "@example.com");
+            assertThat(response.getUser().getId()).isNotNull();
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(statistics.getEntityStatistics(UserEntity.class.getName()).getLoadCount()).isEqualTo(1);
+        }
+    }
+
+    private LoginRequest loginRequest() {
+        var request = new LoginRequest();
+        request.setUsername(USERNAME);
+        request.setPassword(PASSWORD);
+        return request;
+    }
+}
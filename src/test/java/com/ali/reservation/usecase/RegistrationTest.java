@@ -0,0 +1,128 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.infrastructure.persistence.repository.UserRepository;
+import com.ali.reservation.presentation.dto.reqeust.RefreshTokenRequest;
+import com.ali.reservation.presentation.dto.response.RegisterRequest;
+import com.ali.reservation.presentation.exption.ApplicationException;
+import com.ali.reservation.presentation.exption.ErrorType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+class RegistrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:17")
+                    .withDatabaseName("test_db")
+                    .withUsername("test_user")
+                    .withPassword("test_password");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void register_newUser_returnsToken() {
+        var response = authService.register(registerRequest("fresh-user", "fresh-user@example.com"));
+
+        assertThat(response.getToken()).isNotBlank();
+        assertThat(response.getUser().getId()).isNotNull();
+    }
+
+    @Test
+    void do_not_allow_register_withTakenUsernameOrEmail() {
+        authService.register(registerRequest("taken-user", "taken-user@example.com"));
+
+        assertThatThrownBy(() -> authService.register(registerRequest("taken-user", "other@example.com")))
+                .isInstanceOfSatisfying(ApplicationException.class,
+                        e -> assertThat(e.getErrorType()).isEqualTo(ErrorType.DUPLICATE_ERROR));
+        assertThatThrownBy(() -> authService.register(registerRequest("other-user", "taken-user@example.com")))
+                .isInstanceOfSatisfying(ApplicationException.class,
+                        e -> assertThat(e.getErrorType()).isEqualTo(ErrorType.DUPLICATE_ERROR));
+    }
+
+    @Test
+    void refresh_rotatesRefreshToken_andRejectsReuse() {
+        var registered = authService.register(registerRequest("refresh-user", "refresh-user@example.com"));
+        var refreshRequest = new RefreshTokenRequest();
+        refreshRequest.setRefreshToken(registered.getRefreshToken());
+
+        var refreshed = authService.refresh(refreshRequest);
+
+        assertThat(refreshed.getToken()).isNotBlank();
+        assertThat(refreshed.getRefreshToken()).isNotEqualTo(registered.getRefreshToken());
+        assertThat(refreshed.getUser().getId()).isEqualTo(registered.getUser().getId());
+        assertThatThrownBy(() -> authService.refresh(refreshRequest))
+                .isInstanceOfSatisfying(ApplicationException.class,
+                        e -> assertThat(e.getErrorType()).isEqualTo(ErrorType.TOKEN_INVALID));
+    }
+
+    @Test
+    void refresh_reuseOfRotatedToken_endsTheWholeSession() {
+        var registered = authService.register(registerRequest("reuse-user", "reuse-user@example.com"));
+        var refreshed = authService.refresh(refreshRequest(registered.getRefreshToken()));
+
+        assertThatThrownBy(() -> authService.refresh(refreshRequest(registered.getRefreshToken())))
+                .isInstanceOf(ApplicationException.class);
+        assertThatThrownBy(() -> authService.refresh(refreshRequest(refreshed.getRefreshToken())))
+                .isInstanceOfSatisfying(ApplicationException.class,
+                        e -> assertThat(e.getErrorType()).isEqualTo(ErrorType.TOKEN_INVALID));
+    }
+
+    @Test
+    void logout_revokesTheSessionsRefreshToken() {
+        var registered = authService.register(registerRequest("logout-user", "logout-user@example.com"));
+
+        authService.logout("Bearer " + registered.getToken());
+
+        assertThatThrownBy(() -> authService.refresh(refreshRequest(registered.getRefreshToken())))
+                .isInstanceOfSatisfying(ApplicationException.class,
+                        e -> assertThat(e.getErrorType()).isEqualTo(ErrorType.TOKEN_INVALID));
+    }
+
+    @Test
+    void refresh_deletedUser_isRejected() {
+        var registered = authService.register(registerRequest("deleted-user", "deleted-user@example.com"));
+        userRepository.deleteById(registered.getUser().getId());
+
+        assertThatThrownBy(() -> authService.refresh(refreshRequest(registered.getRefreshToken())))
+                .isInstanceOfSatisfying(ApplicationException.class,
+                        e -> assertThat(e.getErrorType()).isEqualTo(ErrorType.TOKEN_INVALID));
+    }
+
+    private RefreshTokenRequest refreshRequest(String refreshToken) {
+        var request = new RefreshTokenRequest();
+        request.setRefreshToken(refreshToken);
+        return request;
+    }
+
+    private RegisterRequest registerRequest(String username, String email) {
+        var request = new RegisterRequest();
+        request.setUsername(username);
+        request.setEmail(email);
+        request.setPassword("registration-password");
+        return request;
+    }
+}
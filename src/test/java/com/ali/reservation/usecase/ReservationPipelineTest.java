@@ -0,0 +1,116 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.infrastructure.security.SecurityUtils;
+import com.ali.reservation.presentation.dto.reqeust.ReserveSlotRequest;
+import com.ali.reservation.presentation.dto.response.ReservationTicketResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mockStatic;
+
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+class ReservationPipelineTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:17")
+                    .withDatabaseName("test_db")
+                    .withUsername("test_user")
+                    .withPassword("test_password");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private ConcurrencyTestHelper concurrencyHelper;
+
+    @Autowired
+    private ReservationBatchWriter batchWriter;
+
+    private ReservationPipeline reservationPipeline;
+
+    @BeforeEach
+    void setUp() {
+        // Not started yet: every ticket is queued before the writer runs, so all contenders land in one batch
+        reservationPipeline = new ReservationPipeline(batchWriter, new SimpleMeterRegistry(), true, 100, 50,
+                Duration.ofMinutes(5), 1000, 1);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        reservationPipeline.shutdown();
+    }
+
+    @Test
+    void submit_manyContendersForOneSlot_areSettledWithinOneBatch() throws InterruptedException {
+        var slot = concurrencyHelper.createSlotForConcurrencyTest(LocalDateTime.now().plusDays(3).withNano(0));
+        List<TestUser> users = new ArrayList<>();
+        List<ReservationTicketResponse> submitted = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            TestUser user = concurrencyHelper.createUserForConcurrencyTest("pipeline-user-" + i);
+            users.add(user);
+            submitted.add(executeAs(user, () -> reservationPipeline.submit(createRequest(slot.getStartTime()))));
+        }
+
+        assertThat(submitted).allSatisfy(ticket -> assertThat(ticket.getStatus()).isEqualTo("PENDING"));
+        reservationPipeline.start();
+
+        List<ReservationTicketResponse> settled = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            settled.add(awaitSettled(users.get(i), submitted.get(i)));
+        }
+
+        assertThat(settled).filteredOn(ticket -> ticket.getStatus().equals("RESERVED")).hasSize(1);
+        assertThat(settled).filteredOn(ticket -> ticket.getStatus().equals("REJECTED")).hasSize(19)
+                .allSatisfy(ticket -> assertThat(ticket.getReason()).isEqualTo("Slot is already reserved"));
+        assertThat(concurrencyHelper.findSlotById(slot.getId()).isReserved()).isTrue();
+        assertThat(concurrencyHelper.countReservationsForSlot(slot.getId())).isEqualTo(1);
+    }
+
+    private ReservationTicketResponse awaitSettled(TestUser user, ReservationTicketResponse ticket)
+            throws InterruptedException {
+        ReservationTicketResponse current = ticket;
+        for (int i = 0; i < 100 && current.getStatus().equals("PENDING"); i++) {
+            Thread.sleep(50);
+            current = executeAs(user, () -> reservationPipeline.getTicket(ticket.getTicketId()));
+        }
+        return current;
+    }
+
+    private ReserveSlotRequest createRequest(LocalDateTime startTime) {
+        var request = new ReserveSlotRequest();
+        request.setSlotStartTime(startTime);
+        return request;
+    }
+
+    private <T> T executeAs(TestUser user, Supplier<T> action) {
+        try (MockedStatic<SecurityUtils> mockedSecurity = mockStatic(SecurityUtils.class)) {
+            mockedSecurity.when(SecurityUtils::getCurrentUserId).thenReturn(user.id());
+            return action.get();
+        }
+    }
+}
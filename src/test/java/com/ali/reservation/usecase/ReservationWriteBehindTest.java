@@ -0,0 +1,68 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.infrastructure.inventory.SlotInventory;
+import com.ali.reservation.presentation.exption.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class ReservationWriteBehindTest {
+
+    private static final LocalDateTime SLOT = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    private final SlotReservationWriter slotReservationWriter = mock(SlotReservationWriter.class);
+    private final SlotInventory slotInventory = mock(SlotInventory.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReservationWriteBehind writeBehind =
+            new ReservationWriteBehind(slotReservationWriter, slotInventory, meterRegistry, 1, 2);
+    private final CountDownLatch databaseStalled = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        databaseStalled.countDown();
+        writeBehind.drain();
+    }
+
+    @Test
+    void submit_fullQueue_shedsWith503AndReleasesTheClaim() throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            databaseStalled.await();
+            return null;
+        }).when(slotReservationWriter).reserveById(any(), any(), any());
+
+        writeBehind.submit(1L, 10L, SLOT);
+        writing.await();
+        writeBehind.submit(2L, 11L, SLOT.plusHours(1));
+
+        assertThatThrownBy(() -> writeBehind.submit(3L, 12L, SLOT.plusHours(2)))
+                .isInstanceOfSatisfying(ServiceUnavailableException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(2));
+        verify(slotInventory).release(SLOT.plusHours(2));
+        assertThat(meterRegistry.counter("reservation.write-behind.shed").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("reservation.write-behind.queue").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void submit_failedWrite_isCountedAndReleased() {
+        doThrow(new IllegalStateException("database down")).when(slotReservationWriter).reserveById(any(), any(), any());
+
+        writeBehind.submit(1L, 10L, SLOT);
+
+        verify(slotInventory, timeout(2000)).release(SLOT);
+        assertThat(meterRegistry.counter("reservation.write-behind.failed").count()).isEqualTo(1);
+    }
+}
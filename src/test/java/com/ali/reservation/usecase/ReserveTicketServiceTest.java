@@ -1,8 +1,10 @@
 package com.ali.reservation.usecase;
 
+import com.ali.reservation.infrastructure.persistence.projection.SlotWindowView;
 import com.ali.reservation.infrastructure.security.SecurityUtils;
 import com.ali.reservation.presentation.dto.reqeust.ReserveSlotRequest;
 import com.ali.reservation.presentation.dto.response.ReservationResponse;
+import com.ali.reservation.presentation.dto.response.SlotSliceResponse;
 import com.ali.reservation.presentation.exption.ApplicationException;
 import com.ali.reservation.presentation.exption.EntityNotFountException;
 import com.ali.reservation.presentation.exption.TimeNotValidException;
@@ -25,6 +27,9 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -90,6 +95,25 @@ class ReserveTicketServiceTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    void getAvailableSlotsAfter_withCursor_walksAllAvailableSlots() {
+
+        var futureTime = LocalDateTime.now().plusHours(1);
+        testDataFactory.createAvailableSlot(futureTime);
+        testDataFactory.createAvailableSlot(futureTime.plusHours(1));
+        testDataFactory.createAvailableSlot(futureTime.plusHours(2));
+
+        SlotSliceResponse firstPage = reserveTicketService.getAvailableSlotsAfter(futureTime, null, 2);
+        SlotSliceResponse secondPage =
+                reserveTicketService.getAvailableSlotsAfter(null, firstPage.getNextCursor(), 2);
+
+        assertThat(firstPage.getContent()).hasSize(2);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(secondPage.getContent()).hasSize(1);
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(secondPage.getNextCursor()).isNull();
+    }
+
     @Test
     void do_not_allow_getAvailableSlots_withPastTime() {
 
@@ -100,6 +124,32 @@ class ReserveTicketServiceTest {
                 .isInstanceOf(TimeNotValidException.class);
     }
 
+    @Test
+    void exportAvailableSlots_includesFromAndExcludesTo() {
+
+        var from = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        var to = from.plusHours(2);
+        testDataFactory.createAvailableSlot(from);
+        testDataFactory.createAvailableSlot(to.minusHours(1));
+        testDataFactory.createAvailableSlot(to);
+
+        List<SlotWindowView> exported = new ArrayList<>();
+        reserveTicketService.validateExportWindow(from, to);
+        reserveTicketService.exportAvailableSlots(from, to, exported::add);
+
+        assertThat(exported).extracting(SlotWindowView::startTime).containsExactly(from, to.minusHours(1));
+    }
+
+    @Test
+    void do_not_allow_exportAvailableSlots_beyondTheMaxWindow() {
+
+        var from = LocalDateTime.now().plusDays(1);
+
+        assertThatThrownBy(() -> reserveTicketService.validateExportWindow(from, from.plusDays(32)))
+                .isInstanceOf(TimeNotValidException.class)
+                .hasMessageContaining("31 days");
+    }
+
 
     @Test
     void reserveSlot_withAvailableSlot_marksSlotAsReserved() {
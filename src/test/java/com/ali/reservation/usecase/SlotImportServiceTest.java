@@ -0,0 +1,96 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.infrastructure.persistence.repository.AvailableSlotRepository;
+import com.ali.reservation.presentation.dto.response.SlotImportStatusResponse;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+class SlotImportServiceTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:17")
+                    .withDatabaseName("test_db")
+                    .withUsername("test_user")
+                    .withPassword("test_password");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+        registry.add("reservation.import.batch-size", () -> 2);
+    }
+
+    @Autowired
+    private SlotImportService slotImportService;
+
+    @Autowired
+    private AvailableSlotRepository availableSlotRepository;
+
+    @Test
+    void importSlots_gzipCsv_insertsValidRows_andCountsDuplicatesAndInvalidRows() throws Exception {
+        LocalDateTime base = LocalDateTime.now().plusDays(30).truncatedTo(ChronoUnit.HOURS);
+        String csv = """
+                start_time,end_time
+                %s,%s
+                %s,%s
+                %s,%s
+                %s,%s
+                not-a-date,%s
+                """.formatted(
+                base, base.plusHours(1),
+                base.plusHours(1), base.plusHours(2),
+                base.plusHours(2), base.plusHours(3),
+                base, base.plusHours(1),
+                base);
+
+        var started = slotImportService.startImport(
+                new MockMultipartFile("file", "partner.csv.gz", "application/gzip", gzip(csv)));
+        SlotImportStatusResponse finished = awaitCompletion(started);
+
+        assertThat(finished.getStatus()).isEqualTo("COMPLETED");
+        assertThat(finished.getRowsRead()).isEqualTo(5);
+        assertThat(finished.getInsertedSlots()).isEqualTo(3);
+        assertThat(finished.getDuplicateSlots()).isEqualTo(1);
+        assertThat(finished.getInvalidRows()).isEqualTo(1);
+        assertThat(availableSlotRepository.findByStartTime(base.plusHours(2))).isPresent();
+    }
+
+    private SlotImportStatusResponse awaitCompletion(SlotImportStatusResponse started) throws InterruptedException {
+        SlotImportStatusResponse status = started;
+        for (int i = 0; i < 100 && !status.getStatus().equals("COMPLETED") && !status.getStatus().equals("FAILED"); i++) {
+            Thread.sleep(100);
+            status = slotImportService.getStatus(started.getJobId());
+        }
+        return status;
+    }
+
+    private static byte[] gzip(String content) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (var gzip = new GzipCompressorOutputStream(bytes)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,88 @@
+package com.ali.reservation.usecase;
+
+import com.ali.reservation.infrastructure.persistence.repository.AvailableSlotRepository;
+import com.ali.reservation.presentation.dto.reqeust.SlotScheduleRequest;
+import com.ali.reservation.presentation.exption.TimeNotValidException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Testcontainers
+@ActiveProfiles("test")
+class SlotScheduleServiceTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgreSQLContainer =
+            new PostgreSQLContainer<>("postgres:17")
+                    .withDatabaseName("test_db")
+                    .withUsername("test_user")
+                    .withPassword("test_password");
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgreSQLContainer::getJdbcUrl);
+        registry.add("spring.datasource.username", postgreSQLContainer::getUsername);
+        registry.add("spring.datasource.password", postgreSQLContainer::getPassword);
+    }
+
+    @Autowired
+    private SlotScheduleService slotScheduleService;
+
+    @Autowired
+    private AvailableSlotRepository availableSlotRepository;
+
+    @Test
+    void publishSchedule_expandsTemplate_andSkipsExistingSlots() {
+        LocalDate monday = LocalDate.now().plusWeeks(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        var request = scheduleRequest(monday, monday.plusDays(6));
+        request.setExcludedDates(Set.of(monday.plusDays(2)));
+
+        var first = slotScheduleService.publishSchedule(request);
+        var second = slotScheduleService.publishSchedule(request);
+
+        // Mon, Tue, Thu, Fri (Wed excluded, weekend not scheduled) x 09:00-12:00 in 30 minute slots
+        assertThat(first.getGeneratedSlots()).isEqualTo(4 * 6);
+        assertThat(first.getInsertedSlots()).isEqualTo(4 * 6);
+        assertThat(second.getInsertedSlots()).isZero();
+        assertThat(second.getSkippedExistingSlots()).isEqualTo(4 * 6);
+        assertThat(availableSlotRepository.findByStartTime(monday.atTime(11, 30))).isPresent();
+    }
+
+    @Test
+    void do_not_allow_publishSchedule_whenOpeningIsNotBeforeClosing() {
+        LocalDate day = LocalDate.now().plusDays(1);
+        var request = scheduleRequest(day, day);
+        request.setClosingTime(request.getOpeningTime());
+
+        assertThatThrownBy(() -> slotScheduleService.publishSchedule(request))
+                .isInstanceOf(TimeNotValidException.class);
+    }
+
+    private SlotScheduleRequest scheduleRequest(LocalDate fromDate, LocalDate toDate) {
+        var request = new SlotScheduleRequest();
+        request.setFromDate(fromDate);
+        request.setToDate(toDate);
+        request.setDaysOfWeek(EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY));
+        request.setOpeningTime(LocalTime.of(9, 0));
+        request.setClosingTime(LocalTime.of(12, 0));
+        request.setSlotMinutes(30);
+        return request;
+    }
+}